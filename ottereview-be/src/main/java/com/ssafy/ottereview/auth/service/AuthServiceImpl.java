@@ -17,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.kohsuke.github.GHMyself;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -46,7 +47,8 @@ public class AuthServiceImpl implements AuthService {
     private final TokenService tokenService;
     private final UserRepository userRepository;
     private final UserService userService;
-    private final RestTemplate restTemplate;
+    private final RestTemplate githubRestTemplate;
+    private final GitHubConnector githubConnector;
 
     @Override
     @Transactional
@@ -96,6 +98,7 @@ public class AuthServiceImpl implements AuthService {
             // 토큰으로 GitHub 클라이언트 생성
             GitHub github = new GitHubBuilder()
                     .withOAuthToken(githubAccessToken)
+                    .withConnector(githubConnector)
                     .build();
 
             GHMyself myself = github.getMyself();
@@ -138,7 +141,7 @@ public class AuthServiceImpl implements AuthService {
 
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
         ResponseEntity<Map<String, Object>> responseEntity =
-                restTemplate.exchange(
+                githubRestTemplate.exchange(
                         url,
                         HttpMethod.POST,
                         request,
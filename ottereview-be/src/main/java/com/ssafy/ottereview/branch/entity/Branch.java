@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.*;
 import org.hibernate.annotations.OnDelete;
@@ -24,7 +25,8 @@ import org.hibernate.annotations.OnDeleteAction;
 public class Branch extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "branch_seq")
+    @SequenceGenerator(name = "branch_seq", sequenceName = "branch_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
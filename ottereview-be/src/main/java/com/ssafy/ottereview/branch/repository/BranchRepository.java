@@ -2,9 +2,13 @@ package com.ssafy.ottereview.branch.repository;
 
 import com.ssafy.ottereview.branch.entity.Branch;
 import com.ssafy.ottereview.repo.entity.Repo;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -21,4 +25,8 @@ public interface BranchRepository extends JpaRepository<Branch, Long> {
     void deleteByNameAndRepo(String name, Repo repo);
 
     Branch findByNameAndRepo(String name, Repo repo);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Branch b WHERE b.repo = :repo AND b.name IN :names")
+    int deleteAllByRepoAndNameIn(@Param("repo") Repo repo, @Param("names") Collection<String> names);
 }
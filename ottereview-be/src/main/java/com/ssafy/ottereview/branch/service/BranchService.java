@@ -5,6 +5,7 @@ import com.ssafy.ottereview.branch.dto.BranchRoleCreateRequest;
 import com.ssafy.ottereview.branch.entity.Branch;
 import com.ssafy.ottereview.repo.entity.Repo;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.kohsuke.github.GHRepository;
 
@@ -23,6 +24,18 @@ public interface BranchService {
      */
     List<Branch> createBranchList(GHRepository ghRepository, Repo repo);
 
+    /**
+     * 여러 저장소의 branch 를 GitHub 에서 병렬로 가져와 저장할 branch 목록을 만든다.
+     * @param
+     */
+    List<Branch> createBranchLists(Long installationId, List<GHRepository> repositories, Map<Long, Repo> reposByGithubId);
+
+    /**
+     * GitHub 의 현재 branch 목록과 DB 를 비교해 새로 생긴 branch 는 추가하고 사라진 branch 는 삭제한다.
+     * @param
+     */
+    void reconcileBranches(Long installationId, Repo repo, GHRepository ghRepository);
+
     /**
      * repoId를 가지고 branch list를 가져오는 코드
      * @param repoId
@@ -4,14 +4,19 @@ import com.ssafy.ottereview.branch.dto.BranchCreateRequest;
 import com.ssafy.ottereview.branch.dto.BranchRoleCreateRequest;
 import com.ssafy.ottereview.branch.entity.Branch;
 import com.ssafy.ottereview.branch.repository.BranchRepository;
+import com.ssafy.ottereview.githubapp.client.GithubFanOut;
 import com.ssafy.ottereview.repo.entity.Repo;
 import com.ssafy.ottereview.repo.repository.RepoRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +33,7 @@ public class BranchServiceImpl implements BranchService{
 
     private final RepoRepository repoRepository;
     private final BranchRepository branchRepository;
+    private final GithubFanOut githubFanOut;
 
 
     /**
@@ -81,6 +87,117 @@ public class BranchServiceImpl implements BranchService{
         return branchesToSave;
     }
 
+    /**
+     * 여러 저장소의 브랜치를 한 번에 가져온다. 저장소별 브랜치 목록 조회와 보호 브랜치의 보호 규칙 조회를 각각 병렬로 실행한다.
+     * @param installationId 동시 호출 수를 제한할 installation
+     * @param repositories GitHub 저장소 목록
+     * @param reposByGithubId GitHub 저장소 id -> 아직 저장되지 않은 Repo 엔티티
+     * @return 저장할 branch 목록
+     */
+    @Override
+    public List<Branch> createBranchLists(Long installationId, List<GHRepository> repositories, Map<Long, Repo> reposByGithubId) {
+        // 1. 저장소별 브랜치 목록
+        List<Map<String, GHBranch>> branchesByRepo = githubFanOut.map(installationId, repositories, this::fetchBranches);
+
+        List<GHBranch> allBranches = new ArrayList<>();
+        List<Repo> branchRepos = new ArrayList<>();
+        for (int i = 0; i < repositories.size(); i++) {
+            Repo repo = reposByGithubId.get(repositories.get(i)
+                    .getId());
+            for (GHBranch branch : branchesByRepo.get(i)
+                    .values()) {
+                allBranches.add(branch);
+                branchRepos.add(repo);
+            }
+        }
+
+        // 2. 보호 브랜치의 필요 approve 수 (보호되지 않은 브랜치는 호출하지 않는다)
+        List<GHBranch> protectedBranches = allBranches.stream()
+                .filter(GHBranch::isProtected)
+                .toList();
+        List<Integer> protectedApprovals = githubFanOut.map(installationId, protectedBranches, this::fetchRequiredApprovals);
+        Map<GHBranch, Integer> requiredApprovals = new IdentityHashMap<>();
+        for (int i = 0; i < protectedBranches.size(); i++) {
+            requiredApprovals.put(protectedBranches.get(i), protectedApprovals.get(i));
+        }
+
+        List<Branch> branchesToSave = new ArrayList<>(allBranches.size());
+        for (int i = 0; i < allBranches.size(); i++) {
+            GHBranch branch = allBranches.get(i);
+            branchesToSave.add(Branch.builder()
+                    .name(branch.getName())
+                    .minApproveCnt(requiredApprovals.getOrDefault(branch, 0))
+                    .repo(branchRepos.get(i))  // 아직 저장되지 않은 repo 객체 참조
+                    .build());
+        }
+        return branchesToSave;
+    }
+
+    @Override
+    @Transactional
+    public void reconcileBranches(Long installationId, Repo repo, GHRepository ghRepository) {
+        Map<String, GHBranch> remoteBranches = fetchBranches(ghRepository);
+        Set<String> localNames = branchRepository.findAllByRepo(repo)
+                .stream()
+                .map(Branch::getName)
+                .collect(Collectors.toSet());
+
+        // 목록 조회에 실패하면 빈 목록이 오므로, 그때 브랜치를 모두 지우지 않도록 삭제는 목록이 있을 때만 한다.
+        if (!remoteBranches.isEmpty()) {
+            Set<String> removed = new HashSet<>(localNames);
+            removed.removeAll(remoteBranches.keySet());
+            if (!removed.isEmpty()) {
+                branchRepository.deleteAllByRepoAndNameIn(repo, removed);
+            }
+        }
+
+        List<GHBranch> added = remoteBranches.values()
+                .stream()
+                .filter(branch -> !localNames.contains(branch.getName()))
+                .toList();
+        if (added.isEmpty()) {
+            return;
+        }
+
+        List<GHBranch> protectedBranches = added.stream()
+                .filter(GHBranch::isProtected)
+                .toList();
+        List<Integer> protectedApprovals = githubFanOut.map(installationId, protectedBranches, this::fetchRequiredApprovals);
+        Map<GHBranch, Integer> requiredApprovals = new IdentityHashMap<>();
+        for (int i = 0; i < protectedBranches.size(); i++) {
+            requiredApprovals.put(protectedBranches.get(i), protectedApprovals.get(i));
+        }
+
+        branchRepository.saveAll(added.stream()
+                .map(branch -> Branch.builder()
+                        .name(branch.getName())
+                        .minApproveCnt(requiredApprovals.getOrDefault(branch, 0))
+                        .repo(repo)
+                        .build())
+                .toList());
+        log.debug("브랜치 동기화: repo={}, added={}", repo.getFullName(), added.size());
+    }
+
+    private Map<String, GHBranch> fetchBranches(GHRepository ghRepository) {
+        try {
+            return ghRepository.getBranches();
+        } catch (IOException e) {
+            log.error("브랜치 목록 조회 실패: {}", ghRepository.getFullName(), e);
+            return Map.of();
+        }
+    }
+
+    private int fetchRequiredApprovals(GHBranch branch) {
+        try {
+            GHBranchProtection.RequiredReviews requiredReviews = branch.getProtection()
+                    .getRequiredReviews();
+            return requiredReviews == null ? 0 : requiredReviews.getRequiredReviewers();
+        } catch (IOException e) {
+            log.error("브랜치 보호 규칙 조회 실패: {}", branch.getName(), e);
+            return 0;
+        }
+    }
+
     /**
      * 사용자에게 branch 정보를 받거나 github로부터 동기화 해올때 db에 branch를 저장하는 코드
      * @param branchCreateRequest
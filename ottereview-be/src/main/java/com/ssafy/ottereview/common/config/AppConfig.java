@@ -1,49 +0,0 @@
-package com.ssafy.ottereview.common.config;
-
-import java.time.Duration;
-import org.apache.hc.client5.http.config.RequestConfig;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
-import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
-import org.apache.hc.core5.util.Timeout;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
-
-@Configuration
-public class AppConfig {
-
-    @Bean
-    public RestTemplate restTemplate() {
-        // 커넥션 풀
-        var cm = PoolingHttpClientConnectionManagerBuilder.create()
-                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
-                .setMaxConnTotal(200)
-                .setMaxConnPerRoute(50)
-                .build();
-
-        // HttpClient 레벨 타임아웃
-        RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectTimeout(Timeout.ofSeconds(3))
-                .setResponseTimeout(Timeout.ofSeconds(10))
-                .build();
-
-        CloseableHttpClient httpClient = HttpClients.custom()
-                .setConnectionManager(cm)
-                .setDefaultRequestConfig(requestConfig)
-                .evictExpiredConnections()
-                .build();
-
-        // Spring RequestFactory에 주입 (여기서도 타임아웃 재확인 가능)
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
-        factory.setConnectTimeout((int) Duration.ofSeconds(3)
-                .toMillis());
-        factory.setReadTimeout((int) Duration.ofSeconds(10)
-                .toMillis());
-
-        return new RestTemplate(factory);
-
-    }
-}
@@ -1,10 +1,105 @@
 package com.ssafy.ottereview.common.config;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
-public class AsyncConfig {
+public class AsyncConfig implements AsyncConfigurer {
 
+    /**
+     * @Async 메서드(메일 발송 등) 전용 실행기. 다른 Executor 빈이 추가되어도 @Async 가 이 풀을 사용하도록 명시한다.
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("async-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 사용자 요청 중에 GitHub API 를 병렬로 호출할 때 사용하는 실행기 (PR 상세의 파일/커밋 동시 조회 등). 백그라운드 동기화는 githubSyncExecutor 를 사용한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor githubApiExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("github-api-");
+        // 풀이 가득 차면 호출한 스레드에서 실행해 요청을 버리지 않는다.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 저장소/브랜치/PR 동기화의 fan-out 과 PR 상세 채우기 실행기. 작업이 rate limit 대기로 오래 잠들 수 있어 사용자 요청용 githubApiExecutor 와 분리한다.
+     * <p>
+     * 동시 작업 수는 installation 별 permit(github.sync.concurrency-per-installation)으로 제한되고, 풀이 가득 차면 호출한 백그라운드 스레드에서 실행한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor githubSyncExecutor(@Value("${github.sync.executor-threads:8}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("github-sync-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * PR 이외 웹훅 이벤트의 워커 실행기. 동시 처리 수는 스레드 수이고, 대기 건 수는 워커의 in-flight 한도로 제한된다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor webhookWorkerExecutor(@Value("${webhook.queue.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("webhook-worker-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 저장소 증분 동기화 실행기. 같은 installation 의 동기화가 겹치지 않도록 한 번에 하나씩 실행한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor githubReconcileExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("github-reconcile-");
+        // 밀린 요청은 다음 주기 동기화가 처리하므로 버린다.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+
+    /**
+     * GitHub App 설치 후 데이터를 가져오는 작업 실행기. 실행하지 못한 작업은 DB 에 남아 있어 재개 스케줄러가 다시 실행한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor installationOnboardingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("onboarding-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
 }
@@ -0,0 +1,56 @@
+package com.ssafy.ottereview.common.config;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대량 저장이 많은 엔티티는 IDENTITY 대신 pooled 시퀀스(MySQL 에서는 *_seq 테이블)로 id 를 미리 할당받아 insert 를 배치로 묶는다.
+ * <p>
+ * 기존 IDENTITY 로 쌓인 id 와 겹치지 않도록, 애플리케이션이 요청을 받기 전에 시퀀스 테이블을 만들고 값을 현재 최대 id 이후로 맞춘다. 맞추지 못하면 기동에 실패한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 한다.
+    private static final int ALLOCATION_SIZE = 50;
+
+    // 시퀀스 테이블 -> 엔티티 테이블
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "review_comment_seq", "review_comment",
+            "description_seq", "description",
+            "priority_seq", "priority",
+            "priority_file_seq", "priority_file",
+            "branch_seq", "branch",
+            "users_seq", "users",
+            "reviewer_seq", "reviewer"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCES.forEach(this::alignSequence);
+    }
+
+    private void alignSequence(String sequenceTable, String entityTable) {
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + sequenceTable + " (next_val BIGINT)");
+            jdbcTemplate.update("INSERT INTO " + sequenceTable + " (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM "
+                    + sequenceTable + ")");
+            // pooled 옵티마이저는 저장된 값 아래 allocationSize 만큼을 사용할 수 있으므로 그만큼 여유를 둔다.
+            int updated = jdbcTemplate.update("UPDATE " + sequenceTable + " SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM "
+                    + entityTable + ") + " + (ALLOCATION_SIZE + 1) + ")");
+            log.debug("id 시퀀스 정렬 완료: sequence={}, updated={}", sequenceTable, updated);
+        } catch (DataAccessException e) {
+            // 정렬되지 않은 시퀀스는 기존 id 와 겹치는 값을 내줄 수 있으므로 기동을 중단한다.
+            throw new IllegalStateException("id 시퀀스 정렬 실패: sequence=" + sequenceTable, e);
+        }
+    }
+}
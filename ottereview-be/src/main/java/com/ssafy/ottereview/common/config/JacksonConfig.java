@@ -0,0 +1,21 @@
+package com.ssafy.ottereview.common.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 전체에서 공유하는 ObjectMapper 설정. 직접 new ObjectMapper() 하지 말고 주입받아 사용한다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * getter/setter 호출을 리플렉션 대신 LambdaMetafactory 로 생성한 코드로 바꿔 웹훅 DTO 바인딩 비용을 줄인다.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
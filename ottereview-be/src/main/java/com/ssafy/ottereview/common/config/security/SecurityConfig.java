@@ -54,7 +54,9 @@ public class SecurityConfig {
                                 "/api/webhook",
                                 "/api/yjs/**",
                                 "/api/ws/**",
-                                "/api/ai/**"
+                                "/api/ai/**",
+                                "/actuator/health",
+                                "/actuator/prometheus"
                         ).permitAll()
                         // 그 외는 모두 인증 필요
                         .anyRequest().authenticated()
@@ -11,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,7 +29,8 @@ import org.hibernate.annotations.OnDeleteAction;
 public class Description extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "description_seq")
+    @SequenceGenerator(name = "description_seq", sequenceName = "description_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = jakarta.persistence.FetchType.LAZY)
@@ -4,10 +4,15 @@ import com.ssafy.ottereview.description.entity.Description;
 import com.ssafy.ottereview.pullrequest.entity.PullRequest;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DescriptionRepository extends JpaRepository<Description, Long> {
 
     List<Description> findAllByPullRequest(PullRequest pullRequest);
+
+    @Query("SELECT d FROM Description d WHERE d.pullRequest.id = :pullRequestId ORDER BY d.id")
+    List<Description> findAllByPullRequestId(@Param("pullRequestId") Long pullRequestId);
 }
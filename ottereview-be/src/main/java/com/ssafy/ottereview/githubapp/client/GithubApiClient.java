@@ -4,7 +4,9 @@ import com.ssafy.ottereview.branch.entity.Branch;
 import com.ssafy.ottereview.branch.repository.BranchRepository;
 import com.ssafy.ottereview.common.exception.BusinessException;
 import com.ssafy.ottereview.githubapp.dto.GithubAccountResponse;
+import com.ssafy.ottereview.githubapp.dto.GithubPrDetailSnapshot;
 import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.githubapp.dto.GithubReviewCommentResponse;
 import com.ssafy.ottereview.githubapp.exception.GithubAppErrorCode;
 import com.ssafy.ottereview.githubapp.util.GithubAppUtil;
 import com.ssafy.ottereview.pullrequest.dto.info.PullRequestCommitInfo;
@@ -16,10 +18,17 @@ import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
 import com.ssafy.ottereview.pullrequest.util.PullRequestMapper;
 import jakarta.transaction.Transactional;
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,16 +37,23 @@ import org.kohsuke.github.GHBranch;
 import org.kohsuke.github.GHCommit;
 import org.kohsuke.github.GHCompare;
 import org.kohsuke.github.GHCompare.Commit;
+import org.kohsuke.github.GHDirection;
+import org.kohsuke.github.GHException;
 import org.kohsuke.github.GHIssueState;
 import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.github.GHPullRequestCommitDetail;
 import org.kohsuke.github.GHPullRequestFileDetail;
+import org.kohsuke.github.GHPullRequestQueryBuilder;
 import org.kohsuke.github.GHPullRequestReviewComment;
 import org.kohsuke.github.GHPullRequestReviewComment.Side;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.PagedIterable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 
 @RequiredArgsConstructor
 @Transactional
@@ -45,10 +61,23 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class GithubApiClient {
     
+    // GitHub 목록 API 의 최대 페이지 크기
+    private static final int PAGE_SIZE = 100;
+    // PR 파일 목록 API 는 최대 3000개까지만 반환한다.
+    private static final int MAX_PULL_REQUEST_FILES = 3000;
+    
     private final GithubAppUtil githubAppUtil;
     private final PullRequestRepository pullRequestRepository;
     private final PullRequestMapper pullRequestMapper;
     private final BranchRepository branchRepository;
+    private final GithubRestClient githubRestClient;
+    private final GithubReviewCommentCache githubReviewCommentCache;
+    private final GithubPrDetailCache githubPrDetailCache;
+    private final Executor githubApiExecutor;
+    private final GithubPullRequestSnapshotLoader githubPullRequestSnapshotLoader;
+    
+    @Value("${github.graphql.enabled:true}")
+    private boolean graphqlEnabled;
     
     public GithubAccountResponse getAccount(Long installationId) {
         try {
@@ -100,6 +129,15 @@ public class GithubApiClient {
     }
     
     public List<GithubPrResponse> getPullRequests(Long installationId, String repositoryName) {
+        // GraphQL 로 PR 목록과 상세 값을 한 번에 가져오고, 실패하면 REST 로 조회한다.
+        if (graphqlEnabled) {
+            try {
+                return githubPullRequestSnapshotLoader.loadOpenPullRequests(installationId, repositoryName);
+            } catch (BusinessException e) {
+                log.warn("GraphQL PR 조회 실패, REST 로 재시도: repository={}", repositoryName);
+            }
+        }
+        
         try {
             GitHub github = githubAppUtil.getGitHub(installationId);
             
@@ -107,12 +145,14 @@ public class GithubApiClient {
             
             PagedIterable<GHPullRequest> pullRequests = repo.queryPullRequests()
                     .state(GHIssueState.OPEN) // GHIssueState.CLOSED, .ALL 등도 사용 가능
-                    .list();
+                    .list()
+                    .withPageSize(PAGE_SIZE);
             
+            // 목록 응답만으로 변환하고, 개수/머지 가능 여부는 호출한 쪽에서 나중에 채운다.
             return StreamSupport.stream(pullRequests.spliterator(), false)
                     .map(pr -> {
                         try {
-                            return GithubPrResponse.from(pr);
+                            return GithubPrResponse.fromListItem(pr);
                         } catch (Exception e) {
                             log.error("Error converting PR to DTO: {}", e.getMessage());
                             return null;
@@ -126,6 +166,31 @@ public class GithubApiClient {
         }
     }
     
+    /**
+     * since 이후에 수정된 PR 을 상태와 관계없이 가져온다.
+     * <p>
+     * 수정일시 내림차순으로 페이지를 넘기다가 since 이전 PR 이 나오면 멈추므로, 바뀐 PR 이 없으면 첫 페이지 한 번만 호출한다.
+     */
+    public List<GithubPrResponse> getPullRequestsUpdatedSince(GHRepository repository, LocalDateTime since) {
+        PagedIterable<GHPullRequest> pullRequests = repository.queryPullRequests()
+                .state(GHIssueState.ALL)
+                .sort(GHPullRequestQueryBuilder.Sort.UPDATED)
+                .direction(GHDirection.DESC)
+                .list()
+                .withPageSize(PAGE_SIZE);
+
+        List<GithubPrResponse> changed = new ArrayList<>();
+        for (GHPullRequest pullRequest : pullRequests) {
+            GithubPrResponse response = GithubPrResponse.fromListItem(pullRequest);
+            if (response.getGithubUpdatedAt() != null && !response.getGithubUpdatedAt()
+                    .isAfter(since)) {
+                break;
+            }
+            changed.add(response);
+        }
+        return changed;
+    }
+
     public PullRequestDetailResponse getPullRequestDetail(Long prId, String repositoryName) {
         
         PullRequest pullRequest = pullRequestRepository.findById(prId)
@@ -137,30 +202,86 @@ public class GithubApiClient {
                 .getAccount()
                 .getInstallationId();
         
-        List<PullRequestFileInfo> pullRequestFileChanges = getPullRequestFileChanges(installationId, repositoryName, githubPrNumber);
-        List<PullRequestCommitInfo> pullRequestCommitInfos = getPullRequestCommits(installationId, repositoryName, githubPrNumber);
+        // head / base 가 그대로면 이전에 가져온 파일/커밋 목록을 그대로 쓴다.
+        GithubPrDetailSnapshot snapshot = githubPrDetailCache.get(prId, pullRequest.getCommitSha(), pullRequest.getBase());
+        if (snapshot == null) {
+            snapshot = fetchPullRequestDetailSnapshot(installationId, repositoryName, githubPrNumber);
+            githubPrDetailCache.put(prId, snapshot);
+        }
         
         Branch baseBranch = branchRepository.findByNameAndRepo(pullRequest.getBase(), pullRequest.getRepo());
         Branch headBranch = branchRepository.findByNameAndRepo(pullRequest.getHead(), pullRequest.getRepo());
         
-        return pullRequestMapper.pullRequestToDetailResponse(pullRequest, baseBranch, headBranch, pullRequestFileChanges, pullRequestCommitInfos);
+        return pullRequestMapper.pullRequestToDetailResponse(pullRequest, baseBranch, headBranch, snapshot.getFiles(), snapshot.getCommits());
     }
     
-    private List<PullRequestFileInfo> getPullRequestFileChanges(Long installationId, String repositoryName, Integer githubPrNumber) {
+    /**
+     * 저장소와 PR 은 한 번만 조회하고, 파일/커밋 목록은 동시에 가져온다. snapshot 은 GitHub 가 알려준 head 기준으로 만든다. (DB 의 head 가 웹훅 반영 전이라도 내용과 키가 어긋나지 않는다)
+     */
+    private GithubPrDetailSnapshot fetchPullRequestDetailSnapshot(Long installationId, String repositoryName, Integer githubPrNumber) {
+        GHPullRequest ghPullRequest;
+        try {
+            ghPullRequest = githubAppUtil.getGitHub(installationId)
+                    .getRepository(repositoryName)
+                    .getPullRequest(githubPrNumber);
+        } catch (IOException e) {
+            throw new BusinessException(GithubAppErrorCode.GITHUB_APP_PULL_REQUEST_NOT_FOUND);
+        }
+        
+        List<CompletableFuture<List<PullRequestFileInfo>>> fileFutures = requestPullRequestFileChanges(installationId, repositoryName, ghPullRequest);
+        CompletableFuture<List<PullRequestCommitInfo>> commitFuture = CompletableFuture.supplyAsync(() -> getPullRequestCommits(ghPullRequest), githubApiExecutor);
+        
+        List<PullRequestFileInfo> pullRequestFileChanges = fileFutures.stream()
+                .flatMap(future -> await(future).stream())
+                .collect(Collectors.toList());
+        List<PullRequestCommitInfo> pullRequestCommitInfos = await(commitFuture);
+        
+        return GithubPrDetailSnapshot.of(ghPullRequest.getHead()
+                .getSha(), ghPullRequest.getBase()
+                .getRef(), pullRequestFileChanges, pullRequestCommitInfos);
+    }
+    
+    /**
+     * 변경 파일이 한 페이지를 넘으면 changed_files 로 페이지 수를 계산해 모든 페이지를 미리 동시에 요청한다. 결과는 페이지 순서대로 반환된다.
+     */
+    private List<CompletableFuture<List<PullRequestFileInfo>>> requestPullRequestFileChanges(Long installationId, String repositoryName, GHPullRequest ghPullRequest) {
+        int changedFiles;
+        try {
+            changedFiles = Math.min(ghPullRequest.getChangedFiles(), MAX_PULL_REQUEST_FILES);
+        } catch (IOException e) {
+            throw new BusinessException(GithubAppErrorCode.GITHUB_APP_PULL_REQUEST_FILE_NOT_FOUND);
+        }
+        
+        if (changedFiles <= PAGE_SIZE) {
+            return List.of(CompletableFuture.supplyAsync(() -> getPullRequestFileChanges(ghPullRequest), githubApiExecutor));
+        }
+        
+        int pages = (changedFiles + PAGE_SIZE - 1) / PAGE_SIZE;
+        return IntStream.rangeClosed(1, pages)
+                .mapToObj(page -> CompletableFuture.supplyAsync(
+                        () -> getPullRequestFileChangesPage(installationId, repositoryName, ghPullRequest.getNumber(), page), githubApiExecutor))
+                .toList();
+    }
+    
+    private List<PullRequestFileInfo> getPullRequestFileChanges(GHPullRequest ghPullRequest) {
+        PagedIterable<GHPullRequestFileDetail> files = ghPullRequest.listFiles()
+                .withPageSize(PAGE_SIZE);
+        
         try {
-            GitHub github = githubAppUtil.getGitHub(installationId);
-            
-            GHRepository repo = github.getRepository(repositoryName);
-            
-            GHPullRequest pullRequest = repo.getPullRequest(githubPrNumber);
-            
-            PagedIterable<GHPullRequestFileDetail> files = pullRequest.listFiles();
-            
             return StreamSupport.stream(files.spliterator(), false)
                     .map(PullRequestFileInfo::from)
                     .filter(Objects::nonNull)
                     .collect(Collectors.toList());
-            
+        } catch (GHException e) {
+            throw new BusinessException(GithubAppErrorCode.GITHUB_APP_PULL_REQUEST_FILE_NOT_FOUND);
+        }
+    }
+    
+    private List<PullRequestFileInfo> getPullRequestFileChangesPage(Long installationId, String repositoryName, int prNumber, int page) {
+        String path = String.format("/repos/%s/pulls/%d/files?per_page=%d&page=%d", repositoryName, prNumber, PAGE_SIZE, page);
+        try {
+            PullRequestFileInfo[] files = githubRestClient.get(installationId, path, PullRequestFileInfo[].class);
+            return files == null ? List.of() : Arrays.asList(files);
         } catch (IOException e) {
             throw new BusinessException(GithubAppErrorCode.GITHUB_APP_PULL_REQUEST_FILE_NOT_FOUND);
         }
@@ -169,31 +290,37 @@ public class GithubApiClient {
     /**
      * Pull Request의 모든 커밋을 가져오는 메서드
      *
-     * @param installationId GitHub App 설치 ID
-     * @param repositoryName 저장소 전체 이름 (예: "owner/repo")
-     * @param prNumber       Pull Request 번호
+     * @param ghPullRequest 이미 조회한 GitHub Pull Request
      * @return Pull Request 커밋 정보 리스트
      */
-    private List<PullRequestCommitInfo> getPullRequestCommits(Long installationId, String repositoryName, Integer prNumber) {
+    private List<PullRequestCommitInfo> getPullRequestCommits(GHPullRequest ghPullRequest) {
+        PagedIterable<GHPullRequestCommitDetail> commits = ghPullRequest.listCommits()
+                .withPageSize(PAGE_SIZE);
+        
         try {
-            GitHub github = githubAppUtil.getGitHub(installationId);
-            
-            GHRepository repo = github.getRepository(repositoryName);
-            
-            GHPullRequest pullRequest = repo.getPullRequest(prNumber);
-            
-            PagedIterable<GHPullRequestCommitDetail> commits = pullRequest.listCommits();
-            
             return StreamSupport.stream(commits.spliterator(), false)
                     .map(PullRequestCommitInfo::from)
                     .filter(Objects::nonNull) // null 제거
                     .collect(Collectors.toList());
-            
-        } catch (IOException e) {
+        } catch (GHException e) {
             throw new BusinessException(GithubAppErrorCode.GITHUB_APP_PULL_REQUEST_COMMIT_NOT_FOUND);
         }
     }
     
+    /**
+     * 비동기 작업 결과를 기다리고, 작업 중 발생한 BusinessException 은 그대로 다시 던진다.
+     */
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw e;
+        }
+    }
+    
     /**
      * 두 커밋 간의 비교 정보 가져오기
      */
@@ -365,25 +492,20 @@ public class GithubApiClient {
     /**
      * Pull Request Review Comment에 답글 생성 GitHub API에서 답글은 단순히 body만 있으면 되고, 위치 정보는 부모 댓글을 따름
      */
-    public GHPullRequestReviewComment createReviewCommentReply(Long installationId, String repositoryName, Integer prNumber, Long parentGithubId, String body) {
+    public GithubReviewCommentResponse createReviewCommentReply(Long installationId, String repositoryName, Integer prNumber, Long parentGithubId, String body) {
+        // 답글의 답글은 허용되지 않으므로 스레드의 최상위 댓글에 답글을 단다.
+        Long rootGithubId = githubReviewCommentCache.resolveThreadRootId(parentGithubId);
+        String path = String.format("/repos/%s/pulls/%d/comments/%d/replies", repositoryName, prNumber, rootGithubId);
+        
         try {
-            GitHub github = githubAppUtil.getGitHub(installationId);
-            GHRepository repo = github.getRepository(repositoryName);
-            
-            GHPullRequest pullRequest = repo.getPullRequest(prNumber);
-            
-            // PR의 모든 Review Comment를 조회하여 부모 댓글 찾기
-            GHPullRequestReviewComment parentComment = pullRequest.listReviewComments()
-                    .toList()
-                    .stream()
-                    .filter(comment -> comment.getId() == parentGithubId)
-                    .findFirst()
-                    .orElseThrow(() -> new BusinessException(GithubAppErrorCode.GITHUB_APP_REVIEW_COMMENT_NOT_FOUND));
-            
-            // 답글은 부모 댓글에 reply() 메서드로 생성
-            return parentComment.reply(body);
-            
-        } catch (IOException e) {
+            GithubReviewCommentResponse reply = githubRestClient.exchange(installationId, HttpMethod.POST, path, Map.of("body", body), GithubReviewCommentResponse.class)
+                    .getBody();
+            githubReviewCommentCache.put(reply);
+            return reply;
+            
+        } catch (HttpClientErrorException.NotFound e) {
+            throw new BusinessException(GithubAppErrorCode.GITHUB_APP_REVIEW_COMMENT_NOT_FOUND);
+        } catch (RestClientException e) {
             throw new BusinessException(GithubAppErrorCode.GITHUB_APP_REVIEW_COMMENT_REPLY_CREATE_FAILED);
         }
     }
@@ -391,24 +513,17 @@ public class GithubApiClient {
     /**
      * Review Comment 수정
      */
-    public void updateReviewComment(Long installationId, String repositoryName, Integer prNumber, Long commentId, String body) {
+    public void updateReviewComment(Long installationId, String repositoryName, Long commentId, String body) {
+        String path = String.format("/repos/%s/pulls/comments/%d", repositoryName, commentId);
+        
         try {
-            GitHub github = githubAppUtil.getGitHub(installationId);
-            GHRepository repo = github.getRepository(repositoryName);
-            
-            GHPullRequest pullRequest = repo.getPullRequest(prNumber);
+            GithubReviewCommentResponse comment = githubRestClient.exchange(installationId, HttpMethod.PATCH, path, Map.of("body", body), GithubReviewCommentResponse.class)
+                    .getBody();
+            githubReviewCommentCache.put(comment);
             
-            // PR의 모든 Review Comment를 조회하여 특정 ID 찾기
-            GHPullRequestReviewComment comment = pullRequest.listReviewComments()
-                    .toList()
-                    .stream()
-                    .filter(c -> c.getId() == commentId)
-                    .findFirst()
-                    .orElseThrow(() -> new BusinessException(GithubAppErrorCode.GITHUB_APP_REVIEW_COMMENT_NOT_FOUND));
-            
-            comment.update(body);
-            
-        } catch (IOException e) {
+        } catch (HttpClientErrorException.NotFound e) {
+            throw new BusinessException(GithubAppErrorCode.GITHUB_APP_REVIEW_COMMENT_NOT_FOUND);
+        } catch (RestClientException e) {
             throw new BusinessException(GithubAppErrorCode.GITHUB_APP_REVIEW_COMMENT_UPDATE_FAILED);
         }
     }
@@ -416,24 +531,16 @@ public class GithubApiClient {
     /**
      * Review Comment 삭제
      */
-    public void deleteReviewComment(Long installationId, String repositoryName, Integer prNumber, Long commentId) {
+    public void deleteReviewComment(Long installationId, String repositoryName, Long commentId) {
+        String path = String.format("/repos/%s/pulls/comments/%d", repositoryName, commentId);
+        
         try {
-            GitHub github = githubAppUtil.getGitHub(installationId);
-            GHRepository repo = github.getRepository(repositoryName);
+            githubRestClient.exchange(installationId, HttpMethod.DELETE, path, null, Void.class);
+            githubReviewCommentCache.evict(commentId);
             
-            GHPullRequest pullRequest = repo.getPullRequest(prNumber);
-            
-            // PR의 모든 Review Comment를 조회하여 특정 ID 찾기
-            GHPullRequestReviewComment comment = pullRequest.listReviewComments()
-                    .toList()
-                    .stream()
-                    .filter(c -> c.getId() == commentId)
-                    .findFirst()
-                    .orElseThrow(() -> new BusinessException(GithubAppErrorCode.GITHUB_APP_REVIEW_COMMENT_NOT_FOUND));
-            
-            comment.delete();
-            
-        } catch (IOException e) {
+        } catch (HttpClientErrorException.NotFound e) {
+            throw new BusinessException(GithubAppErrorCode.GITHUB_APP_REVIEW_COMMENT_NOT_FOUND);
+        } catch (RestClientException e) {
             throw new BusinessException(GithubAppErrorCode.GITHUB_APP_REVIEW_COMMENT_DELETE_FAILED);
         }
     }
@@ -0,0 +1,162 @@
+package com.ssafy.ottereview.githubapp.client;
+
+import com.ssafy.ottereview.githubapp.client.GithubResponseCache.CachedResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/**
+ * GET 요청에 If-None-Match / If-Modified-Since 를 붙여 보내고, 304 응답이면 캐시된 본문을 200 응답으로 돌려주는 connector.
+ */
+@Slf4j
+class GithubConditionalConnector implements GitHubConnector {
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final long installationId;
+    private final GithubResponseCache cache;
+    private final GitHubConnector delegate;
+
+    GithubConditionalConnector(long installationId, GithubResponseCache cache, GitHubConnector delegate) {
+        this.installationId = installationId;
+        this.cache = cache;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+        if (!"GET".equalsIgnoreCase(request.method())) {
+            return delegate.send(request);
+        }
+
+        String key = cacheKey(request);
+        CachedResponse cached = cache.get(key);
+
+        GitHubConnectorResponse response = delegate.send(cached == null ? request : new ConditionalRequest(request, cached));
+
+        if (response.statusCode() == HTTP_NOT_MODIFIED && cached != null) {
+            log.debug("GitHub 304 응답, 캐시 사용: {}", request.url());
+            Map<String, List<String>> headers = copyHeaders(cached.headers());
+            // rate limit 등 최신 헤더는 304 응답 값을 사용한다.
+            headers.putAll(copyHeaders(response.allHeaders()));
+            response.close();
+            return new CachedConnectorResponse(request, headers, cached.body());
+        }
+
+        if (response.statusCode() == HTTP_OK) {
+            String etag = response.header("ETag");
+            String lastModified = response.header("Last-Modified");
+            if (etag != null || lastModified != null) {
+                byte[] body;
+                try (InputStream stream = response.bodyStream()) {
+                    body = stream == null ? new byte[0] : stream.readAllBytes();
+                } finally {
+                    response.close();
+                }
+                Map<String, List<String>> headers = copyHeaders(response.allHeaders());
+                cache.put(key, new CachedResponse(etag, lastModified, headers, body));
+                return new CachedConnectorResponse(request, headers, body);
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * 같은 URL 이라도 installation 과 Accept 헤더(미디어 타입)가 다르면 응답이 다르므로 키에 포함한다.
+     */
+    private String cacheKey(GitHubConnectorRequest request) {
+        return installationId + "|" + request.header("Accept") + "|" + request.url();
+    }
+
+    /**
+     * 본문은 이미 압축 해제된 상태로 저장하므로 Content-Encoding / Content-Length 는 제외한다.
+     */
+    private Map<String, List<String>> copyHeaders(Map<String, List<String>> source) {
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        source.forEach((name, values) -> {
+            if (name != null && !name.equalsIgnoreCase("Content-Encoding") && !name.equalsIgnoreCase("Content-Length")) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        return headers;
+    }
+
+    private static class ConditionalRequest implements GitHubConnectorRequest {
+
+        private final GitHubConnectorRequest request;
+        private final Map<String, List<String>> headers;
+
+        ConditionalRequest(GitHubConnectorRequest request, CachedResponse cached) {
+            this.request = request;
+            this.headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            this.headers.putAll(request.allHeaders());
+            if (cached.etag() != null) {
+                this.headers.put("If-None-Match", List.of(cached.etag()));
+            }
+            if (cached.lastModified() != null) {
+                this.headers.put("If-Modified-Since", List.of(cached.lastModified()));
+            }
+        }
+
+        @Override
+        public String method() {
+            return request.method();
+        }
+
+        @Override
+        public Map<String, List<String>> allHeaders() {
+            return headers;
+        }
+
+        @Override
+        public String header(String name) {
+            List<String> values = headers.get(name);
+            return values == null || values.isEmpty() ? null : String.join(", ", values);
+        }
+
+        @Override
+        public String contentType() {
+            return request.contentType();
+        }
+
+        @Override
+        public InputStream body() {
+            return request.body();
+        }
+
+        @Override
+        public URL url() {
+            return request.url();
+        }
+
+        @Override
+        public boolean hasBody() {
+            return request.hasBody();
+        }
+    }
+
+    private static class CachedConnectorResponse extends GitHubConnectorResponse.ByteArrayResponse {
+
+        private final byte[] body;
+
+        CachedConnectorResponse(GitHubConnectorRequest request, Map<String, List<String>> headers, byte[] body) {
+            super(request, HTTP_OK, headers);
+            this.body = body;
+        }
+
+        @Override
+        protected InputStream rawBodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+    }
+}
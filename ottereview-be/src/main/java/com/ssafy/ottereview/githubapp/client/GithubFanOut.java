@@ -0,0 +1,69 @@
+package com.ssafy.ottereview.githubapp.client;
+
+import com.ssafy.ottereview.githubapp.client.GithubRateLimitTracker.Lane;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장소/브랜치 동기화처럼 항목마다 GitHub 를 호출하는 작업을 병렬로 실행한다.
+ * <p>
+ * installation 별 동시 호출 수를 제한하고, 각 호출은 호출한 쪽의 lane 으로 rate limit 추적기를 거치므로 잔량이 줄면 자연스럽게 느려진다. 중첩 실행으로 풀이 고갈되지 않도록 작업 안에서 다시 fan-out 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GithubFanOut {
+
+    private final Executor githubSyncExecutor;
+    private final GithubRateLimitTracker githubRateLimitTracker;
+    private final Map<Long, Semaphore> installationPermits = new ConcurrentHashMap<>();
+
+    @Value("${github.sync.concurrency-per-installation:4}")
+    private int concurrencyPerInstallation;
+
+    /**
+     * items 각각에 task 를 병렬로 적용하고 입력 순서대로 결과를 돌려준다.
+     */
+    public <T, R> List<R> map(Long installationId, Collection<T> items, Function<T, R> task) {
+        if (items.size() <= 1) {
+            return items.stream()
+                    .map(task)
+                    .toList();
+        }
+
+        Semaphore permits = installationPermits.computeIfAbsent(installationId, id -> new Semaphore(concurrencyPerInstallation));
+        Lane lane = githubRateLimitTracker.currentLane();
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            permits.acquireUninterruptibly();
+            futures.add(CompletableFuture.supplyAsync(() -> githubRateLimitTracker.callInLane(lane, () -> task.apply(item)), githubSyncExecutor)
+                    .whenComplete((result, throwable) -> permits.release()));
+        }
+        return futures.stream()
+                .map(this::await)
+                .toList();
+    }
+
+    private <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
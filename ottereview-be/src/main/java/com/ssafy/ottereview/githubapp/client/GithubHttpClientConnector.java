@@ -0,0 +1,102 @@
+package com.ssafy.ottereview.githubapp.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/**
+ * github-api 라이브러리의 요청을 공유 Apache HttpClient 커넥션 풀로 보내는 connector.
+ */
+public class GithubHttpClientConnector implements GitHubConnector {
+
+    // HttpClient 가 직접 관리하는 헤더는 넘기지 않는다.
+    private static final Set<String> SKIPPED_HEADERS = Set.of("content-length", "transfer-encoding", "host", "connection");
+
+    private final CloseableHttpClient httpClient;
+
+    public GithubHttpClientConnector(CloseableHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest connectorRequest) throws IOException {
+        URI uri;
+        try {
+            uri = connectorRequest.url()
+                    .toURI();
+        } catch (URISyntaxException e) {
+            throw new IOException("잘못된 GitHub 요청 URL: " + connectorRequest.url(), e);
+        }
+
+        ClassicRequestBuilder builder = ClassicRequestBuilder.create(connectorRequest.method())
+                .setUri(uri);
+        connectorRequest.allHeaders()
+                .forEach((name, values) -> {
+                    if (name != null && values != null && !SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                        values.forEach(value -> builder.addHeader(name, value));
+                    }
+                });
+
+        if (connectorRequest.hasBody()) {
+            try (InputStream body = connectorRequest.body()) {
+                String contentType = connectorRequest.contentType();
+                builder.setEntity(new ByteArrayEntity(body.readAllBytes(), contentType == null ? null : ContentType.parse(contentType)));
+            }
+        }
+
+        ClassicHttpRequest request = builder.build();
+        ClassicHttpResponse response = httpClient.executeOpen(HttpHost.create(uri), request, null);
+        return new HttpClientConnectorResponse(connectorRequest, response);
+    }
+
+    private static Map<String, List<String>> toHeaderMap(ClassicHttpResponse response) {
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Header header : response.getHeaders()) {
+            headers.computeIfAbsent(header.getName(), name -> new ArrayList<>())
+                    .add(header.getValue());
+        }
+        return headers;
+    }
+
+    private static class HttpClientConnectorResponse extends GitHubConnectorResponse {
+
+        private final ClassicHttpResponse response;
+
+        HttpClientConnectorResponse(GitHubConnectorRequest request, ClassicHttpResponse response) {
+            super(request, response.getCode(), toHeaderMap(response));
+            this.response = response;
+        }
+
+        @Override
+        protected InputStream rawBodyStream() throws IOException {
+            HttpEntity entity = response.getEntity();
+            return entity == null ? null : entity.getContent();
+        }
+
+        /**
+         * 응답을 닫아야 연결이 풀로 반환된다.
+         */
+        @Override
+        public void close() throws IOException {
+            response.close();
+        }
+    }
+}
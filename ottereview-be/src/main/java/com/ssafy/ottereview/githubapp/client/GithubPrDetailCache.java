@@ -0,0 +1,131 @@
+package com.ssafy.ottereview.githubapp.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ottereview.githubapp.dto.GithubPrDetailSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PR 상세의 GitHub 부분(변경 파일, 커밋 목록) 캐시. (prId, headSha) 를 키로 메모리(LRU)와 Redis 두 단계에 보관한다.
+ * <p>
+ * 같은 head / base 의 파일과 커밋은 바뀌지 않으므로, 다른 리뷰어가 같은 PR 을 다시 열면 GitHub 를 호출하지 않는다. 조회할 때 DB 의 head / base 와 비교하므로 다른 인스턴스가
+ * 받은 synchronize 웹훅도 반영되고, 웹훅(synchronize, edited, closed)에서는 해당 PR 의 항목을 지워 자리를 비운다.
+ */
+@Slf4j
+@Component
+public class GithubPrDetailCache {
+
+    private static final String KEY_PREFIX = "pr:detail:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    // prId -> 마지막으로 본 snapshot, 접근 순서 기준 LRU
+    private final Map<Long, GithubPrDetailSnapshot> snapshots;
+
+    public GithubPrDetailCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${github.pr-detail-cache.local-max-entries:200}") int localMaxEntries,
+            @Value("${github.pr-detail-cache.ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, GithubPrDetailSnapshot> eldest) {
+                return size() > localMaxEntries;
+            }
+        };
+        this.localHitCounter = lookupCounter(meterRegistry, "local");
+        this.redisHitCounter = lookupCounter(meterRegistry, "redis");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * @return headSha / base 가 일치하는 snapshot, 없으면 null
+     */
+    public GithubPrDetailSnapshot get(Long prId, String headSha, String base) {
+        if (prId == null || headSha == null) {
+            return null;
+        }
+
+        synchronized (snapshots) {
+            GithubPrDetailSnapshot snapshot = snapshots.get(prId);
+            if (snapshot != null && snapshot.matches(headSha, base)) {
+                localHitCounter.increment();
+                return snapshot;
+            }
+        }
+
+        try {
+            Object json = redisTemplate.opsForHash()
+                    .get(KEY_PREFIX + prId, headSha);
+            if (json != null) {
+                GithubPrDetailSnapshot snapshot = objectMapper.readValue(json.toString(), GithubPrDetailSnapshot.class);
+                if (snapshot.matches(headSha, base)) {
+                    synchronized (snapshots) {
+                        snapshots.put(prId, snapshot);
+                    }
+                    redisHitCounter.increment();
+                    return snapshot;
+                }
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("PR 상세 캐시 조회 실패, GitHub 에서 다시 가져옴: prId={}, message={}", prId, e.getMessage());
+        }
+        missCounter.increment();
+        return null;
+    }
+
+    public void put(Long prId, GithubPrDetailSnapshot snapshot) {
+        if (prId == null || snapshot.getHeadSha() == null) {
+            return;
+        }
+
+        synchronized (snapshots) {
+            snapshots.put(prId, snapshot);
+        }
+
+        String key = KEY_PREFIX + prId;
+        try {
+            redisTemplate.opsForHash()
+                    .put(key, snapshot.getHeadSha(), objectMapper.writeValueAsString(snapshot));
+            redisTemplate.expire(key, ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("PR 상세 캐시 저장 실패: prId={}, message={}", prId, e.getMessage());
+        }
+    }
+
+    /**
+     * PR 의 모든 head 에 대한 항목을 지운다.
+     */
+    public void evict(Long prId) {
+        synchronized (snapshots) {
+            snapshots.remove(prId);
+        }
+        try {
+            redisTemplate.delete(KEY_PREFIX + prId);
+        } catch (DataAccessException e) {
+            log.warn("PR 상세 캐시 삭제 실패: prId={}, message={}", prId, e.getMessage());
+        }
+    }
+
+    private Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("github.pr_detail_cache.lookups")
+                .description("PR 상세 GitHub 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,334 @@
+package com.ssafy.ottereview.githubapp.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssafy.ottereview.common.exception.BusinessException;
+import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.githubapp.dto.GithubUserResponse;
+import com.ssafy.ottereview.githubapp.exception.GithubAppErrorCode;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * GitHub GraphQL API 로 저장소의 PR 스냅샷(메타데이터, 개수, 머지 가능 여부, 리뷰 요청자)을 한 번에 가져온다.
+ * <p>
+ * REST 로는 PR 목록 조회 후 PR 마다 상세 조회가 한 번씩 더 필요하지만, GraphQL 은 PR 50개당 요청 한 번이면 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GithubPullRequestSnapshotLoader {
+
+    private static final int PULL_REQUEST_PAGE_SIZE = 50;
+    private static final int REVIEW_PAGE_SIZE = 100;
+    // GraphQL 의 Bot login 에는 REST / 웹훅의 "[bot]" 접미사가 없다.
+    private static final String BOT_LOGIN_SUFFIX = "[bot]";
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private static final String USER_FIELDS = """
+            __typename
+            login
+            avatarUrl
+            ... on User { databaseId email }
+            ... on Bot { databaseId }
+            """;
+
+    private static final String PULL_REQUEST_FIELDS = """
+            databaseId
+            number
+            title
+            body
+            state
+            merged
+            mergeable
+            baseRefName
+            headRefName
+            headRefOid
+            createdAt
+            updatedAt
+            url
+            changedFiles
+            commits { totalCount }
+            comments { totalCount }
+            reviews(first: %d) { pageInfo { hasNextPage endCursor } nodes { comments { totalCount } } }
+            author { %s }
+            assignees(first: 20) { nodes { %s } }
+            reviewRequests(first: 20) { nodes { requestedReviewer { %s } } }
+            """.formatted(REVIEW_PAGE_SIZE, USER_FIELDS, USER_FIELDS, USER_FIELDS);
+
+    private static final String OPEN_PULL_REQUESTS_QUERY = """
+            query($owner: String!, $name: String!, $pageSize: Int!, $cursor: String) {
+              repository(owner: $owner, name: $name) {
+                pullRequests(states: OPEN, first: $pageSize, after: $cursor, orderBy: {field: CREATED_AT, direction: ASC}) {
+                  pageInfo { hasNextPage endCursor }
+                  nodes { %s }
+                }
+              }
+            }
+            """.formatted(PULL_REQUEST_FIELDS);
+
+    // 리뷰가 한 페이지를 넘는 PR 의 나머지 리뷰 코멘트 수를 센다.
+    private static final String REVIEWS_QUERY = """
+            query($owner: String!, $name: String!, $number: Int!, $pageSize: Int!, $cursor: String) {
+              repository(owner: $owner, name: $name) {
+                pullRequest(number: $number) {
+                  reviews(first: $pageSize, after: $cursor) {
+                    pageInfo { hasNextPage endCursor }
+                    nodes { comments { totalCount } }
+                  }
+                }
+              }
+            }
+            """;
+
+    private final GithubRestClient githubRestClient;
+
+    /**
+     * 저장소의 열린 PR 을 모두 조회한다. REST 의 {@code GithubPrResponse.from(GHPullRequest)} 와 같은 값을 채운다.
+     */
+    public List<GithubPrResponse> loadOpenPullRequests(Long installationId, String repositoryName) {
+        String[] ownerAndName = repositoryName.split("/", 2);
+        List<GithubPrResponse> pullRequests = new ArrayList<>();
+
+        String cursor = null;
+        do {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("owner", ownerAndName[0]);
+            variables.put("name", ownerAndName[1]);
+            variables.put("pageSize", PULL_REQUEST_PAGE_SIZE);
+            variables.put("cursor", cursor);
+
+            JsonNode connection = query(installationId, OPEN_PULL_REQUESTS_QUERY, variables).path("repository")
+                    .path("pullRequests");
+            for (JsonNode node : connection.path("nodes")) {
+                pullRequests.add(toPrResponse(installationId, repositoryName, node));
+            }
+
+            JsonNode pageInfo = connection.path("pageInfo");
+            cursor = pageInfo.path("hasNextPage")
+                    .asBoolean() ? pageInfo.path("endCursor")
+                    .asText() : null;
+        } while (cursor != null);
+
+        log.debug("GraphQL PR 스냅샷 조회 완료: repository={}, count={}", repositoryName, pullRequests.size());
+        return pullRequests;
+    }
+
+    /**
+     * 번호로 지정한 PR 들을 alias 를 사용해 {@value #PULL_REQUEST_PAGE_SIZE}개씩 한 요청으로 조회한다.
+     *
+     * @return PR 번호 -> 스냅샷 (존재하지 않는 PR 은 제외)
+     */
+    public Map<Integer, GithubPrResponse> loadPullRequests(Long installationId, String repositoryName, List<Integer> prNumbers) {
+        String[] ownerAndName = repositoryName.split("/", 2);
+        Map<Integer, GithubPrResponse> pullRequests = new HashMap<>();
+
+        for (int from = 0; from < prNumbers.size(); from += PULL_REQUEST_PAGE_SIZE) {
+            List<Integer> chunk = prNumbers.subList(from, Math.min(from + PULL_REQUEST_PAGE_SIZE, prNumbers.size()));
+
+            StringBuilder aliases = new StringBuilder();
+            for (Integer number : chunk) {
+                aliases.append("pr_")
+                        .append(number)
+                        .append(": pullRequest(number: ")
+                        .append(number)
+                        .append(") { ")
+                        .append(PULL_REQUEST_FIELDS)
+                        .append(" }\n");
+            }
+            String query = """
+                    query($owner: String!, $name: String!) {
+                      repository(owner: $owner, name: $name) {
+                        %s
+                      }
+                    }
+                    """.formatted(aliases);
+
+            JsonNode repository = query(installationId, query, Map.of("owner", ownerAndName[0], "name", ownerAndName[1])).path("repository");
+            for (Integer number : chunk) {
+                JsonNode node = repository.path("pr_" + number);
+                if (!node.isMissingNode() && !node.isNull()) {
+                    pullRequests.put(number, toPrResponse(installationId, repositoryName, node));
+                }
+            }
+        }
+        return pullRequests;
+    }
+
+    private JsonNode query(Long installationId, String query, Map<String, Object> variables) {
+        JsonNode response;
+        try {
+            response = githubRestClient.exchange(installationId, HttpMethod.POST, "/graphql", Map.of("query", query, "variables", variables), JsonNode.class)
+                    .getBody();
+        } catch (RestClientException e) {
+            throw new BusinessException(GithubAppErrorCode.GITHUB_GRAPHQL_QUERY_FAILED);
+        }
+
+        if (response == null || response.hasNonNull("errors")) {
+            log.warn("GitHub GraphQL 오류 응답: {}", response == null ? null : response.get("errors"));
+            throw new BusinessException(GithubAppErrorCode.GITHUB_GRAPHQL_QUERY_FAILED);
+        }
+        return response.path("data");
+    }
+
+    private GithubPrResponse toPrResponse(Long installationId, String repositoryName, JsonNode node) {
+        int number = node.path("number")
+                .asInt();
+        String htmlUrl = node.path("url")
+                .asText();
+
+        int reviewCommentCount = countReviewComments(installationId, repositoryName, number, node.path("reviews"));
+
+        List<GithubUserResponse> assignees = new ArrayList<>();
+        for (JsonNode assignee : node.path("assignees")
+                .path("nodes")) {
+            GithubUserResponse user = toUserResponse(assignee);
+            if (user != null) {
+                assignees.add(user);
+            }
+        }
+
+        // 팀 리뷰 요청은 REST 의 requested_reviewers 와 마찬가지로 제외한다.
+        List<GithubUserResponse> requestedReviewers = new ArrayList<>();
+        for (JsonNode request : node.path("reviewRequests")
+                .path("nodes")) {
+            JsonNode reviewer = request.path("requestedReviewer");
+            GithubUserResponse user = "User".equals(reviewer.path("__typename")
+                    .asText()) ? toUserResponse(reviewer) : null;
+            if (user != null) {
+                requestedReviewers.add(user);
+            }
+        }
+
+        return GithubPrResponse.builder()
+                .githubId(node.path("databaseId")
+                        .asLong())
+                .githubPrNumber(number)
+                .commitSha(node.path("headRefOid")
+                        .asText())
+                .title(node.path("title")
+                        .asText())
+                .body(node.path("body")
+                        .asText(null))
+                // REST 와 같이 머지된 PR 도 CLOSED 로 표현한다.
+                .state("OPEN".equals(node.path("state")
+                        .asText()) ? "OPEN" : "CLOSED")
+                .author(node.hasNonNull("author") ? toUserResponse(node.get("author")) : null)
+                .assignees(assignees)
+                .requestedReviewers(requestedReviewers)
+                .merged(node.path("merged")
+                        .asBoolean())
+                .base(node.path("baseRefName")
+                        .asText())
+                .head(node.path("headRefName")
+                        .asText())
+                // REST 와 같이 아직 계산되지 않은 경우(UNKNOWN)는 머지 가능으로 본다.
+                .mergeable(!"CONFLICTING".equals(node.path("mergeable")
+                        .asText()))
+                .githubCreatedAt(toLocalDateTime(node.path("createdAt")))
+                .githubUpdatedAt(toLocalDateTime(node.path("updatedAt")))
+                .commitCnt(node.path("commits")
+                        .path("totalCount")
+                        .asInt())
+                .changedFilesCnt(node.path("changedFiles")
+                        .asInt())
+                .commentCnt(node.path("comments")
+                        .path("totalCount")
+                        .asInt())
+                .reviewCommentCnt(reviewCommentCount)
+                .htmlUrl(toUrl(htmlUrl))
+                .patchUrl(toUrl(htmlUrl + ".patch"))
+                .issueUrl(toUrl("https://api.github.com/repos/" + repositoryName + "/issues/" + number))
+                .diffUrl(toUrl(htmlUrl + ".diff"))
+                .build();
+    }
+
+    /**
+     * 첫 페이지의 리뷰 코멘트 수에, 리뷰가 더 있으면 나머지 페이지를 이어서 조회해 더한다.
+     */
+    private int countReviewComments(Long installationId, String repositoryName, int number, JsonNode reviews) {
+        int count = 0;
+        while (true) {
+            for (JsonNode review : reviews.path("nodes")) {
+                count += review.path("comments")
+                        .path("totalCount")
+                        .asInt();
+            }
+            JsonNode pageInfo = reviews.path("pageInfo");
+            if (!pageInfo.path("hasNextPage")
+                    .asBoolean()) {
+                return count;
+            }
+
+            String[] ownerAndName = repositoryName.split("/", 2);
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("owner", ownerAndName[0]);
+            variables.put("name", ownerAndName[1]);
+            variables.put("number", number);
+            variables.put("pageSize", REVIEW_PAGE_SIZE);
+            variables.put("cursor", pageInfo.path("endCursor")
+                    .asText());
+            reviews = query(installationId, REVIEWS_QUERY, variables).path("repository")
+                    .path("pullRequest")
+                    .path("reviews");
+        }
+    }
+
+    /**
+     * databaseId 가 없는 작성자(Mannequin, Organization, EnterpriseUserAccount 등)는 사용자로 매핑하지 않고 null 을 반환한다.
+     */
+    private GithubUserResponse toUserResponse(JsonNode node) {
+        if (!node.path("databaseId")
+                .isIntegralNumber()) {
+            return null;
+        }
+        String type = node.path("__typename")
+                .asText();
+        String login = node.path("login")
+                .asText();
+        if ("Bot".equals(type) && !login.endsWith(BOT_LOGIN_SUFFIX)) {
+            login = login + BOT_LOGIN_SUFFIX;
+        }
+        String email = node.path("email")
+                .asText(null);
+        return GithubUserResponse.builder()
+                .id(node.path("databaseId")
+                        .asLong())
+                .login(login)
+                .email(email == null || email.isBlank() ? null : email)
+                .type(type)
+                .avatarUrl(node.path("avatarUrl")
+                        .asText(null))
+                .build();
+    }
+
+    private LocalDateTime toLocalDateTime(JsonNode node) {
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        return Instant.parse(node.asText())
+                .atZone(ZONE_ID)
+                .toLocalDateTime();
+    }
+
+    private URL toUrl(String value) {
+        try {
+            return URI.create(value)
+                    .toURL();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
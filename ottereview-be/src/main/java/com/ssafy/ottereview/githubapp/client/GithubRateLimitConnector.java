@@ -0,0 +1,78 @@
+package com.ssafy.ottereview.githubapp.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/**
+ * 요청 전에 rate limit 잔량을 확인하고, 응답 헤더로 잔량을 갱신하는 connector.
+ */
+class GithubRateLimitConnector implements GitHubConnector {
+
+    private static final int HTTP_FORBIDDEN = 403;
+
+    private final long installationId;
+    private final GithubRateLimitTracker tracker;
+    private final GitHubConnector delegate;
+
+    GithubRateLimitConnector(long installationId, GithubRateLimitTracker tracker, GitHubConnector delegate) {
+        this.installationId = installationId;
+        this.tracker = tracker;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+        tracker.acquire(installationId);
+        GitHubConnectorResponse response = delegate.send(request);
+        if (response.statusCode() != HTTP_FORBIDDEN) {
+            tracker.record(installationId, response.statusCode(), response.allHeaders(), null);
+            return response;
+        }
+
+        // 403 은 본문을 봐야 secondary rate limit 인지 권한 오류인지 구분할 수 있다. 읽은 본문은 호출한 쪽에 그대로 돌려준다.
+        byte[] body;
+        try (InputStream stream = response.bodyStream()) {
+            body = stream == null ? new byte[0] : stream.readAllBytes();
+        } finally {
+            response.close();
+        }
+        tracker.record(installationId, response.statusCode(), response.allHeaders(), new String(body, StandardCharsets.UTF_8));
+        return new BufferedConnectorResponse(request, response, body);
+    }
+
+    private static class BufferedConnectorResponse extends GitHubConnectorResponse.ByteArrayResponse {
+
+        private final byte[] body;
+
+        BufferedConnectorResponse(GitHubConnectorRequest request, GitHubConnectorResponse response, byte[] body) {
+            super(request, response.statusCode(), decodedHeaders(response.allHeaders()));
+            this.body = body;
+        }
+
+        /**
+         * 본문은 이미 압축 해제된 상태이므로 Content-Encoding / Content-Length 는 제외한다.
+         */
+        private static Map<String, List<String>> decodedHeaders(Map<String, List<String>> source) {
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            source.forEach((name, values) -> {
+                if (name != null && !name.equalsIgnoreCase("Content-Encoding") && !name.equalsIgnoreCase("Content-Length")) {
+                    headers.put(name, List.copyOf(values));
+                }
+            });
+            return headers;
+        }
+
+        @Override
+        protected InputStream rawBodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+    }
+}
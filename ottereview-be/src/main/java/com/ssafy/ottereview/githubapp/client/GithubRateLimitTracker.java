@@ -0,0 +1,258 @@
+package com.ssafy.ottereview.githubapp.client;
+
+import com.ssafy.ottereview.common.exception.BusinessException;
+import com.ssafy.ottereview.githubapp.exception.GithubAppErrorCode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.springframework.stereotype.Component;
+
+/**
+ * installation 별 GitHub rate limit 잔량을 모든 응답 헤더로부터 추적하고, 한도에 닿기 전에 요청을 지연시킨다.
+ * <p>
+ * 백그라운드 작업(설치 동기화 등)은 잔량의 일부를 사용자 요청용으로 남겨두고, 잔량이 줄어들면 reset 시각까지 요청 간격을 벌린다.
+ */
+@Slf4j
+@Component
+public class GithubRateLimitTracker {
+
+    public enum Lane {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    private static final ThreadLocal<Lane> CURRENT_LANE = ThreadLocal.withInitial(() -> Lane.INTERACTIVE);
+
+    // 백그라운드 작업이 건드리지 않는 잔량 (limit 의 20%, 최소 100)
+    private static final double BACKGROUND_RESERVE_RATIO = 0.2;
+    private static final int MIN_BACKGROUND_RESERVE = 100;
+    // 사용자 요청도 이 이하로 떨어지면 reset 까지 기다린다.
+    private static final int INTERACTIVE_FLOOR = 10;
+    private static final Duration MAX_INTERACTIVE_WAIT = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKGROUND_WAIT = Duration.ofMinutes(15);
+    // secondary rate limit 응답에 Retry-After 가 없을 때의 기본 대기 시간
+    private static final Duration SECONDARY_LIMIT_BACKOFF = Duration.ofMinutes(1);
+    // secondary rate limit 403 응답 본문에 포함되는 문구
+    private static final String SECONDARY_LIMIT_MESSAGE = "secondary rate limit";
+
+    private final Map<Long, Budget> budgets = new ConcurrentHashMap<>();
+
+    public GitHubConnector connector(long installationId, GitHubConnector delegate) {
+        return new GithubRateLimitConnector(installationId, this, delegate);
+    }
+
+    /**
+     * 현재 스레드의 GitHub 호출을 백그라운드 lane 으로 실행한다.
+     * <p>
+     * 잔량이 부족하면 호출 스레드가 최대 {@code MAX_BACKGROUND_WAIT} 동안 잠들므로, 동기화 전용 실행기(reconcile, onboarding 등)에서만 사용한다. 웹훅 워커나 요청 스레드에서는
+     * 작업을 실행기로 넘기고 기본(사용자) lane 의 짧은 대기 후 실패하게 둔다.
+     */
+    public void runInBackground(Runnable task) {
+        callInBackground(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> T callInBackground(Supplier<T> task) {
+        return callInLane(Lane.BACKGROUND, task);
+    }
+
+    public Lane currentLane() {
+        return CURRENT_LANE.get();
+    }
+
+    /**
+     * 다른 스레드로 작업을 넘길 때 호출한 쪽의 lane 을 그대로 이어받게 한다.
+     */
+    public <T> T callInLane(Lane lane, Supplier<T> task) {
+        Lane previous = CURRENT_LANE.get();
+        CURRENT_LANE.set(lane);
+        try {
+            return task.get();
+        } finally {
+            CURRENT_LANE.set(previous);
+        }
+    }
+
+    /**
+     * 요청을 보내기 전에 호출한다. 잔량이 부족하면 필요한 만큼 대기하고, 사용자 요청이 너무 오래 기다려야 하면 예외를 던진다.
+     */
+    public void acquire(long installationId) {
+        Budget budget = budgets.get(installationId);
+        if (budget == null) {
+            return;
+        }
+
+        Lane lane = CURRENT_LANE.get();
+        Duration wait = budget.reserve(lane, Instant.now());
+        if (wait.isZero()) {
+            return;
+        }
+
+        if (lane == Lane.INTERACTIVE && wait.compareTo(MAX_INTERACTIVE_WAIT) > 0) {
+            log.warn("GitHub rate limit 부족으로 요청 거절: installationId={}, wait={}s", installationId, wait.toSeconds());
+            throw new BusinessException(GithubAppErrorCode.GITHUB_RATE_LIMIT_EXCEEDED);
+        }
+
+        Duration sleep = wait.compareTo(MAX_BACKGROUND_WAIT) > 0 ? MAX_BACKGROUND_WAIT : wait;
+        log.debug("GitHub rate limit 조절 대기: installationId={}, lane={}, wait={}ms", installationId, lane, sleep.toMillis());
+        try {
+            Thread.sleep(sleep.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+            throw new BusinessException(GithubAppErrorCode.GITHUB_RATE_LIMIT_EXCEEDED);
+        }
+    }
+
+    /**
+     * GitHub 응답의 상태 코드와 헤더로 잔량을 갱신한다.
+     *
+     * @param body 403 응답의 본문 (secondary rate limit 여부 판단용, 없으면 null)
+     */
+    public void record(long installationId, int statusCode, Map<String, List<String>> headers, String body) {
+        String resource = header(headers, "X-RateLimit-Resource");
+        if (resource != null && !resource.equals("core")) {
+            // search, graphql 등은 별도 한도라서 추적하지 않는다.
+            return;
+        }
+
+        Budget budget = budgets.computeIfAbsent(installationId, id -> new Budget());
+        Instant now = Instant.now();
+
+        Integer remaining = parseInt(header(headers, "X-RateLimit-Remaining"));
+        Integer limit = parseInt(header(headers, "X-RateLimit-Limit"));
+        Integer reset = parseInt(header(headers, "X-RateLimit-Reset"));
+        if (remaining != null && limit != null && reset != null) {
+            budget.update(remaining, limit, Instant.ofEpochSecond(reset));
+        }
+
+        Integer retryAfter = parseInt(header(headers, "Retry-After"));
+        if (isRateLimited(statusCode, remaining, retryAfter, body)) {
+            if (retryAfter != null) {
+                budget.blockUntil(now.plusSeconds(retryAfter));
+            } else if (remaining != null && remaining == 0 && reset != null) {
+                budget.blockUntil(Instant.ofEpochSecond(reset));
+            } else {
+                budget.backOff(now);
+            }
+            log.warn("GitHub rate limit 응답: installationId={}, status={}, remaining={}", installationId, statusCode, remaining);
+        } else if (statusCode < 400) {
+            budget.clearBackOff();
+        }
+    }
+
+    /**
+     * 권한 부족 등 일반 403 은 rate limit 이 아니므로 installation 전체를 막지 않는다.
+     */
+    private boolean isRateLimited(int statusCode, Integer remaining, Integer retryAfter, String body) {
+        if (statusCode == 429) {
+            return true;
+        }
+        if (statusCode != 403) {
+            return false;
+        }
+        if (retryAfter != null || (remaining != null && remaining == 0)) {
+            return true;
+        }
+        return body != null && body.toLowerCase()
+                .contains(SECONDARY_LIMIT_MESSAGE);
+    }
+
+    private String header(Map<String, List<String>> headers, String name) {
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey()) && entry.getValue() != null && !entry.getValue()
+                    .isEmpty()) {
+                return entry.getValue()
+                        .get(0);
+            }
+        }
+        return null;
+    }
+
+    private Integer parseInt(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class Budget {
+
+        private int remaining = -1;
+        private int limit = -1;
+        private Instant resetAt = Instant.EPOCH;
+        private Instant blockedUntil = Instant.EPOCH;
+        private int consecutiveBackOffs = 0;
+
+        synchronized void update(int remaining, int limit, Instant resetAt) {
+            this.remaining = remaining;
+            this.limit = limit;
+            this.resetAt = resetAt;
+        }
+
+        synchronized void blockUntil(Instant until) {
+            if (until.isAfter(blockedUntil)) {
+                blockedUntil = until;
+            }
+        }
+
+        synchronized void backOff(Instant now) {
+            // 연속으로 막히면 1분, 2분, 4분 ... 최대 16분까지 늘린다.
+            long multiplier = 1L << Math.min(consecutiveBackOffs, 4);
+            consecutiveBackOffs++;
+            blockUntil(now.plus(SECONDARY_LIMIT_BACKOFF.multipliedBy(multiplier)));
+        }
+
+        synchronized void clearBackOff() {
+            consecutiveBackOffs = 0;
+        }
+
+        /**
+         * lane 에 맞게 대기 시간을 계산하고, 바로 보낼 수 있으면 잔량을 하나 미리 차감한다.
+         */
+        synchronized Duration reserve(Lane lane, Instant now) {
+            if (now.isBefore(blockedUntil)) {
+                return Duration.between(now, blockedUntil);
+            }
+            if (remaining < 0) {
+                return Duration.ZERO;
+            }
+            if (!now.isBefore(resetAt)) {
+                // reset 시각이 지났으면 다음 응답이 올 때까지 한도가 복구된 것으로 본다.
+                remaining = limit;
+                return Duration.ZERO;
+            }
+
+            Duration untilReset = Duration.between(now, resetAt);
+            if (lane == Lane.INTERACTIVE) {
+                if (remaining <= INTERACTIVE_FLOOR) {
+                    return untilReset;
+                }
+                remaining--;
+                return Duration.ZERO;
+            }
+
+            int reserve = Math.max(MIN_BACKGROUND_RESERVE, (int) (limit * BACKGROUND_RESERVE_RATIO));
+            if (remaining <= reserve) {
+                return untilReset;
+            }
+            remaining--;
+            if (remaining < limit / 2) {
+                // 잔량이 절반 아래면 남은 백그라운드 몫을 reset 까지 고르게 나눠 쓴다.
+                return untilReset.dividedBy(Math.max(1, remaining - reserve));
+            }
+            return Duration.ZERO;
+        }
+    }
+}
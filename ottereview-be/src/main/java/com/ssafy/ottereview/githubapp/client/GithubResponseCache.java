@@ -0,0 +1,182 @@
+package com.ssafy.ottereview.githubapp.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * GitHub REST 조회 응답을 ETag / Last-Modified 와 함께 로컬 디스크에 보관하는 캐시. 조건부 요청으로 304 를 받으면 저장된 본문을 그대로 돌려준다. (304 응답은 rate limit 에 포함되지 않는다)
+ * <p>
+ * 비공개 저장소의 응답 본문이 그대로 저장되므로 디렉터리(github.cache.directory)는 기본값 없이 애플리케이션 전용 경로로 지정해야 하며, 디렉터리와 파일은 소유자만 접근할 수 있게 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GithubResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+
+    @Value("${github.cache.directory}")
+    private String cacheDirectory;
+
+    @Value("${github.cache.max-entries:5000}")
+    private int maxEntries;
+
+    private Path cacheRoot;
+
+    // key -> 파일 이름, 접근 순서 기준 LRU
+    private Map<String, String> index;
+
+    @PostConstruct
+    void init() throws IOException {
+        cacheRoot = Path.of(cacheDirectory);
+        createOwnerOnlyDirectory(cacheRoot);
+        index = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                if (size() > maxEntries) {
+                    deleteQuietly(cacheRoot.resolve(eldest.getValue()));
+                    return true;
+                }
+                return false;
+            }
+        };
+        trimDirectory();
+    }
+
+    /**
+     * installation 단위로 캐시를 공유하는 connector 를 만든다.
+     */
+    public GitHubConnector connector(long installationId, GitHubConnector delegate) {
+        return new GithubConditionalConnector(installationId, this, delegate);
+    }
+
+    CachedResponse get(String key) {
+        String fileName = fileName(key);
+        synchronized (this) {
+            if (!index.containsKey(key) && !Files.exists(cacheRoot.resolve(fileName))) {
+                return null;
+            }
+            // 재시작 이후 디스크에만 남아있는 항목도 인덱스에 다시 올린다.
+            index.put(key, fileName);
+        }
+        try {
+            return objectMapper.readValue(cacheRoot.resolve(fileName)
+                    .toFile(), CachedResponse.class);
+        } catch (IOException e) {
+            log.debug("GitHub 응답 캐시 읽기 실패, 항목 제거: key={}", key);
+            remove(key);
+            return null;
+        }
+    }
+
+    void put(String key, CachedResponse response) {
+        String fileName = fileName(key);
+        Path target = cacheRoot.resolve(fileName);
+        try {
+            Path temp = posix() ? Files.createTempFile(cacheRoot, fileName, ".tmp", PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE))
+                    : Files.createTempFile(cacheRoot, fileName, ".tmp");
+            objectMapper.writeValue(temp.toFile(), response);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            synchronized (this) {
+                index.put(key, fileName);
+            }
+        } catch (IOException e) {
+            log.warn("GitHub 응답 캐시 저장 실패: key={}, message={}", key, e.getMessage());
+        }
+    }
+
+    void remove(String key) {
+        synchronized (this) {
+            index.remove(key);
+        }
+        deleteQuietly(cacheRoot.resolve(fileName(key)));
+    }
+
+    private void createOwnerOnlyDirectory(Path directory) throws IOException {
+        if (!posix()) {
+            Files.createDirectories(directory);
+            return;
+        }
+        if (Files.notExists(directory)) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+        }
+        // 이미 있던 디렉터리나 umask 로 권한이 줄어든 경우에도 소유자 전용으로 맞춘다.
+        Files.setPosixFilePermissions(directory, OWNER_ONLY_DIRECTORY);
+    }
+
+    private boolean posix() {
+        return FileSystems.getDefault()
+                .supportedFileAttributeViews()
+                .contains("posix");
+    }
+
+    /**
+     * 이전 실행에서 남은 파일이 최대 개수를 넘으면 오래된 것부터 지운다.
+     */
+    private void trimDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(cacheRoot)) {
+            List<Path> cached = files.sorted(Comparator.comparingLong(this::lastModified)
+                            .reversed())
+                    .toList();
+            cached.stream()
+                    .skip(maxEntries)
+                    .forEach(this::deleteQuietly);
+        }
+    }
+
+    private long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path)
+                    .toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("GitHub 응답 캐시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    private String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of()
+                    .formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record CachedResponse(String etag, String lastModified, Map<String, List<String>> headers, byte[] body) {
+
+    }
+}
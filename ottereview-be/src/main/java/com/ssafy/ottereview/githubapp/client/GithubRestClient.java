@@ -0,0 +1,125 @@
+package com.ssafy.ottereview.githubapp.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ottereview.githubapp.util.GithubAppUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.HttpException;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * github-api 라이브러리로 한 번에 처리할 수 없는 GitHub REST 호출을 installation token 으로 직접 보낸다.
+ * <p>
+ * 모든 요청은 {@link GithubRateLimitTracker} 를 거친다. 조회는 {@link #get} 으로 보내면 GitHub 클라이언트와 같은 connector 를 타므로 ETag 캐시도 적용된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GithubRestClient {
+
+    private static final String API_BASE_URL = "https://api.github.com";
+    private static final MediaType GITHUB_JSON = MediaType.parseMediaType("application/vnd.github+json");
+
+    private final GithubAppUtil githubAppUtil;
+    private final GithubRateLimitTracker githubRateLimitTracker;
+    private final RestTemplate githubRestTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * installation connector 로 GET 요청을 보내고 응답 본문을 역직렬화한다.
+     *
+     * @param path {@code /repos/...} 처럼 API base URL 뒤에 붙는 경로
+     */
+    public <T> T get(Long installationId, String path, Class<T> responseType) throws IOException {
+        GitHubConnectorRequest request = new GetRequest(new URL(API_BASE_URL + path), Map.of(
+                "Authorization", List.of("Bearer " + githubAppUtil.getInstallationToken(installationId)),
+                "Accept", List.of(GITHUB_JSON.toString())));
+
+        try (GitHubConnectorResponse response = githubAppUtil.getConnector(installationId)
+                .send(request)) {
+            if (response.statusCode() >= 400) {
+                log.debug("GitHub REST 요청 실패: GET {}, status={}", path, response.statusCode());
+                throw new HttpException("GitHub GET 요청 실패", response.statusCode(), null, request.url()
+                        .toString());
+            }
+            try (InputStream body = response.bodyStream()) {
+                return objectMapper.readValue(body, responseType);
+            }
+        }
+    }
+
+    /**
+     * @param path {@code /repos/...} 처럼 API base URL 뒤에 붙는 경로
+     */
+    public <T> ResponseEntity<T> exchange(Long installationId, HttpMethod method, String path, Object body, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(githubAppUtil.getInstallationToken(installationId));
+        headers.setAccept(List.of(GITHUB_JSON));
+        if (body != null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+
+        githubRateLimitTracker.acquire(installationId);
+        try {
+            ResponseEntity<T> response = githubRestTemplate.exchange(API_BASE_URL + path, method, new HttpEntity<>(body, headers), responseType);
+            githubRateLimitTracker.record(installationId, response.getStatusCode()
+                    .value(), response.getHeaders(), null);
+            return response;
+        } catch (HttpStatusCodeException e) {
+            if (e.getResponseHeaders() != null) {
+                githubRateLimitTracker.record(installationId, e.getStatusCode()
+                        .value(), e.getResponseHeaders(), e.getResponseBodyAsString());
+            }
+            log.debug("GitHub REST 요청 실패: {} {}, status={}", method, path, e.getStatusCode());
+            throw e;
+        }
+    }
+
+    private record GetRequest(URL url, Map<String, List<String>> allHeaders) implements GitHubConnectorRequest {
+
+        @Override
+        public String method() {
+            return "GET";
+        }
+
+        @Override
+        public String header(String name) {
+            for (Map.Entry<String, List<String>> entry : allHeaders.entrySet()) {
+                if (entry.getKey()
+                        .equalsIgnoreCase(name)) {
+                    return String.join(", ", entry.getValue());
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String contentType() {
+            return null;
+        }
+
+        @Override
+        public InputStream body() {
+            return null;
+        }
+
+        @Override
+        public boolean hasBody() {
+            return false;
+        }
+    }
+}
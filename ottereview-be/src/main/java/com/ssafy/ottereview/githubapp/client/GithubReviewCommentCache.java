@@ -0,0 +1,49 @@
+package com.ssafy.ottereview.githubapp.client;
+
+import com.ssafy.ottereview.githubapp.dto.GithubReviewCommentResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * GitHub review comment id -> 댓글 정보 캐시. 웹훅(pull_request_review_comment)과 우리가 보낸 요청의 응답으로 채워진다.
+ * <p>
+ * 답글을 달 때 부모 댓글이 이미 답글인지(in_reply_to_id) 확인하는 데 사용해, 댓글 목록을 다시 조회하지 않는다.
+ */
+@Component
+public class GithubReviewCommentCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<Long, GithubReviewCommentResponse> comments = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, GithubReviewCommentResponse> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public synchronized void put(GithubReviewCommentResponse comment) {
+        if (comment != null && comment.getId() != null) {
+            comments.put(comment.getId(), comment);
+        }
+    }
+
+    public synchronized GithubReviewCommentResponse get(Long githubId) {
+        return comments.get(githubId);
+    }
+
+    public synchronized void evict(Long githubId) {
+        comments.remove(githubId);
+    }
+
+    /**
+     * GitHub 는 답글에 대한 답글을 허용하지 않으므로, 캐시에 부모가 답글로 기록되어 있으면 최상위 댓글 id 를 돌려준다.
+     */
+    public synchronized Long resolveThreadRootId(Long githubId) {
+        GithubReviewCommentResponse comment = comments.get(githubId);
+        if (comment == null || comment.getInReplyToId() == null) {
+            return githubId;
+        }
+        return comment.getInReplyToId();
+    }
+}
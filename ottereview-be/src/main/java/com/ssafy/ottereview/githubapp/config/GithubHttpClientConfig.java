@@ -0,0 +1,73 @@
+package com.ssafy.ottereview.githubapp.config;
+
+import com.ssafy.ottereview.githubapp.client.GithubHttpClientConnector;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * GitHub 로 나가는 모든 HTTP 요청(github-api 라이브러리, REST/GraphQL 직접 호출, OAuth)이 공유하는 커넥션 풀.
+ * <p>
+ * keep-alive 로 api.github.com 과의 TLS 연결을 재사용하고, gzip 응답은 HttpClient 가 자동으로 풀어준다.
+ */
+@Configuration
+public class GithubHttpClientConfig {
+
+    private static final HttpHost GITHUB_API_HOST = new HttpHost("https", "api.github.com", 443);
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient githubHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setMaxConnTotal(100)
+                .setMaxConnPerRoute(10)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofSeconds(3))
+                        .setSocketTimeout(Timeout.ofSeconds(30))
+                        // 오래 쉬던 연결은 재사용 전에 확인하고, 5분이 지나면 새로 맺는다.
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        // 대부분의 요청은 api.github.com 으로 가므로 이 경로만 따로 늘린다.
+        connectionManager.setMaxPerRoute(new HttpRoute(GITHUB_API_HOST, null, true), 64);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofSeconds(5))
+                .setResponseTimeout(Timeout.ofSeconds(30))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                // GitHub 는 Keep-Alive 헤더를 보내지 않으므로 유휴 연결 유지 시간을 직접 정한다.
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(60))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(60))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate githubRestTemplate(CloseableHttpClient githubHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(githubHttpClient));
+    }
+
+    @Bean
+    public GitHubConnector githubConnector(CloseableHttpClient githubHttpClient) {
+        return new GithubHttpClientConnector(githubHttpClient);
+    }
+}
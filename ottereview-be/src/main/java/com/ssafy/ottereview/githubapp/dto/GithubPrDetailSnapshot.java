@@ -0,0 +1,40 @@
+package com.ssafy.ottereview.githubapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.ssafy.ottereview.pullrequest.dto.info.PullRequestCommitInfo;
+import com.ssafy.ottereview.pullrequest.dto.info.PullRequestFileInfo;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 특정 head 커밋 기준으로 GitHub 에서 가져온 PR 변경 파일 / 커밋 목록. head 와 base 가 같으면 내용이 바뀌지 않는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GithubPrDetailSnapshot {
+
+    private String headSha;
+    private String base;
+    private List<PullRequestFileInfo> files;
+    private List<PullRequestCommitInfo> commits;
+
+    public static GithubPrDetailSnapshot of(String headSha, String base, List<PullRequestFileInfo> files,
+            List<PullRequestCommitInfo> commits) {
+        return GithubPrDetailSnapshot.builder()
+                .headSha(headSha)
+                .base(base)
+                .files(List.copyOf(files))
+                .commits(List.copyOf(commits))
+                .build();
+    }
+
+    public boolean matches(String headSha, String base) {
+        return this.headSha != null && this.headSha.equals(headSha) && (this.base == null || this.base.equals(base));
+    }
+}
@@ -26,9 +26,9 @@ public class GithubPrResponse {
     private String title;
     private String body;
     private String state;
-    private GHUser author;
-    private List<GHUser> assignees;
-    private List<GHUser> requestedReviewers;
+    private GithubUserResponse author;
+    private List<GithubUserResponse> assignees;
+    private List<GithubUserResponse> requestedReviewers;
     private Boolean merged;
     private String base;
     private String head;
@@ -55,9 +55,9 @@ public class GithubPrResponse {
                     .title(ghPullRequest.getTitle())
                     .body(ghPullRequest.getBody())
                     .state(ghPullRequest.getState().name())
-                    .author(ghPullRequest.getUser())
-                    .assignees(ghPullRequest.getAssignees())
-                    .requestedReviewers(ghPullRequest.getRequestedReviewers())
+                    .author(GithubUserResponse.from(ghPullRequest.getUser()))
+                    .assignees(toUserResponses(ghPullRequest.getAssignees()))
+                    .requestedReviewers(toUserResponses(ghPullRequest.getRequestedReviewers()))
                     .merged(ghPullRequest.isMerged())
                     .base(ghPullRequest.getBase().getRef())
                     .head(ghPullRequest.getHead().getRef())
@@ -78,6 +78,56 @@ public class GithubPrResponse {
         }
     }
 
+    /**
+     * PR 목록 응답에 포함된 필드만 사용해 변환한다.
+     * <p>
+     * getMergeable(), getCommits() 등은 목록 응답에 값이 없어 PR 마다 상세 조회를 한 번씩 더 하므로 호출하지 않는다. 개수와 머지 가능 여부는 비워두고 나중에 한꺼번에 채운다.
+     */
+    public static GithubPrResponse fromListItem(GHPullRequest ghPullRequest) {
+        try {
+            return GithubPrResponse.builder()
+                    .githubId(ghPullRequest.getId())
+                    .githubPrNumber(ghPullRequest.getNumber())
+                    .commitSha(ghPullRequest.getHead().getSha())
+                    .title(ghPullRequest.getTitle())
+                    .body(ghPullRequest.getBody())
+                    .state(ghPullRequest.getState().name())
+                    .author(GithubUserResponse.from(ghPullRequest.getUser()))
+                    .assignees(toUserResponses(ghPullRequest.getAssignees()))
+                    .requestedReviewers(toUserResponses(ghPullRequest.getRequestedReviewers()))
+                    .merged(ghPullRequest.getMergedAt() != null)
+                    .base(ghPullRequest.getBase().getRef())
+                    .head(ghPullRequest.getHead().getRef())
+                    // 아직 모르는 값은 from() 과 같이 머지 가능으로 둔다.
+                    .mergeable(true)
+                    .githubCreatedAt(convertToLocalDateTime(ghPullRequest.getCreatedAt()))
+                    .githubUpdatedAt(convertToLocalDateTime(ghPullRequest.getUpdatedAt()))
+                    .htmlUrl(ghPullRequest.getHtmlUrl())
+                    .patchUrl(ghPullRequest.getPatchUrl())
+                    .issueUrl(ghPullRequest.getIssueUrl())
+                    .diffUrl(ghPullRequest.getDiffUrl())
+                    .build();
+        } catch (IOException e) {
+            throw new RuntimeException("GitHub API 호출 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 목록 응답만으로 만든 경우 개수/머지 가능 여부가 비어 있다.
+     */
+    public boolean hasDetail() {
+        return commitCnt != null;
+    }
+
+    private static List<GithubUserResponse> toUserResponses(List<GHUser> users) {
+        if (users == null) {
+            return List.of();
+        }
+        return users.stream()
+                .map(GithubUserResponse::from)
+                .toList();
+    }
+
     // 날짜 변환 유틸리티 메서드
     private static LocalDateTime convertToLocalDateTime(Object dateObj) {
         if (dateObj == null) {
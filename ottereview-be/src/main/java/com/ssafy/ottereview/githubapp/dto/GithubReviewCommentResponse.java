@@ -0,0 +1,43 @@
+package com.ssafy.ottereview.githubapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * GitHub Pull Request Review Comment REST 응답 중 서비스에서 사용하는 필드만 담는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GithubReviewCommentResponse {
+
+    private Long id;
+
+    @JsonProperty("pull_request_review_id")
+    private Long pullRequestReviewId;
+
+    @JsonProperty("in_reply_to_id")
+    private Long inReplyToId;
+
+    private String path;
+    private String body;
+
+    @JsonProperty("start_line")
+    private Integer startLine;
+
+    @JsonProperty("start_side")
+    private String startSide;
+
+    private Integer line;
+    private String side;
+    private Integer position;
+
+    @JsonProperty("diff_hunk")
+    private String diffHunk;
+}
@@ -0,0 +1,43 @@
+package com.ssafy.ottereview.githubapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.kohsuke.github.GHUser;
+
+/**
+ * PR 작성자/리뷰어 등 GitHub 사용자 정보. REST(GHUser)와 GraphQL 응답 모두 이 형태로 변환한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GithubUserResponse {
+
+    private static final String BOT_LOGIN_SUFFIX = "[bot]";
+    private static final String BOT_TYPE = "Bot";
+    private static final String USER_TYPE = "User";
+
+    private Long id;
+    private String login;
+    private String email;
+    private String type;
+    private String avatarUrl;
+
+    /**
+     * 목록 응답에 포함된 값만 사용한다. GHUser 의 getType() / getEmail() 은 사용자 정보를 다시 조회(populate)하므로 호출하지 않는다.
+     * <p>
+     * 목록에 나오는 사용자(PR 작성자, 리뷰어, 조직 멤버)는 사람 아니면 앱이므로, type 은 로그인 이름의 "[bot]" 접미사로 구분한다.
+     */
+    public static GithubUserResponse from(GHUser ghUser) {
+        String login = ghUser.getLogin();
+        return GithubUserResponse.builder()
+                .id(ghUser.getId())
+                .login(login)
+                .type(login != null && login.endsWith(BOT_LOGIN_SUFFIX) ? BOT_TYPE : USER_TYPE)
+                .avatarUrl(ghUser.getAvatarUrl() != null ? ghUser.getAvatarUrl()
+                        .toString() : null)
+                .build();
+    }
+}
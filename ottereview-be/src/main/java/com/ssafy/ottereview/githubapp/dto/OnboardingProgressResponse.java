@@ -0,0 +1,40 @@
+package com.ssafy.ottereview.githubapp.dto;
+
+import com.ssafy.ottereview.githubapp.entity.InstallationOnboarding;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 설치 작업 진행 상황 (SSE "onboarding" 이벤트)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OnboardingProgressResponse {
+
+    private Long installationId;
+    private String status;
+    private String step;
+    private int totalRepos;
+    private int completedRepos;
+    // 방금 가져오기를 끝낸 저장소
+    private String currentRepo;
+    private String error;
+
+    public static OnboardingProgressResponse of(InstallationOnboarding onboarding, String currentRepo) {
+        return OnboardingProgressResponse.builder()
+                .installationId(onboarding.getInstallationId())
+                .status(onboarding.getStatus()
+                        .name())
+                .step(onboarding.getStep()
+                        .name())
+                .totalRepos(onboarding.getTotalRepos())
+                .completedRepos(onboarding.getCompletedRepos())
+                .currentRepo(currentRepo)
+                .error(onboarding.getLastError())
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.ssafy.ottereview.githubapp.entity;
+
+import com.ssafy.ottereview.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * GitHub App 설치 후 Account / 저장소 / 브랜치 / PR 을 가져오는 백그라운드 작업의 진행 상태.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "installation_onboarding")
+public class InstallationOnboarding extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "installation_id", nullable = false, unique = true)
+    private Long installationId;
+
+    // 설치를 진행한 사용자 (진행 상황 SSE 를 받는다)
+    @Column(name = "requested_user_id", nullable = false)
+    private Long requestedUserId;
+
+    @Column(name = "requested_github_id", nullable = false)
+    private Long requestedGithubId;
+
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OnboardingStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OnboardingStep step;
+
+    @Column(name = "total_repos", nullable = false)
+    private int totalRepos;
+
+    @Column(name = "completed_repos", nullable = false)
+    private int completedRepos;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static InstallationOnboarding create(Long installationId, Long requestedUserId, Long requestedGithubId) {
+        return InstallationOnboarding.builder()
+                .installationId(installationId)
+                .requestedUserId(requestedUserId)
+                .requestedGithubId(requestedGithubId)
+                .status(OnboardingStatus.PENDING)
+                .step(OnboardingStep.ACCOUNT)
+                .build();
+    }
+
+    /**
+     * 같은 installation 으로 다시 설치 콜백이 오면 처음 단계부터 다시 맞춘다. (각 단계는 이미 저장된 데이터를 건너뛴다)
+     */
+    public void restart(Long requestedUserId, Long requestedGithubId) {
+        this.requestedUserId = requestedUserId;
+        this.requestedGithubId = requestedGithubId;
+        this.status = OnboardingStatus.PENDING;
+        this.step = OnboardingStep.ACCOUNT;
+        this.attempts = 0;
+        this.lastError = null;
+    }
+
+    public void start() {
+        this.status = OnboardingStatus.RUNNING;
+        this.attempts++;
+    }
+
+    public void linkAccount(Long accountId) {
+        this.accountId = accountId;
+        this.step = OnboardingStep.REPOSITORIES;
+    }
+
+    public void registerRepositories(int totalRepos, int completedRepos) {
+        this.totalRepos = totalRepos;
+        this.completedRepos = completedRepos;
+        this.step = OnboardingStep.PULL_REQUESTS;
+    }
+
+    public void completeRepository() {
+        this.completedRepos++;
+    }
+
+    public void complete() {
+        this.status = OnboardingStatus.COMPLETED;
+        this.step = OnboardingStep.DONE;
+        this.lastError = null;
+    }
+
+    public void fail(String message) {
+        this.status = OnboardingStatus.FAILED;
+        this.lastError = message != null && message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,54 @@
+package com.ssafy.ottereview.githubapp.entity;
+
+import com.ssafy.ottereview.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 설치 작업에서 저장소 하나의 브랜치/PR 가져오기가 끝났는지 기록한다. 완료 표시는 가져온 데이터와 같은 트랜잭션에서 저장된다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "onboarding_repo_checkpoint", uniqueConstraints = @UniqueConstraint(columnNames = {"onboarding_id", "repo_id"}))
+public class OnboardingRepoCheckpoint extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "onboarding_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private InstallationOnboarding onboarding;
+
+    // GitHub 저장소 id
+    @Column(name = "repo_id", nullable = false)
+    private Long repoId;
+
+    @Column(name = "full_name", nullable = false)
+    private String fullName;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    public void complete() {
+        this.completed = true;
+    }
+}
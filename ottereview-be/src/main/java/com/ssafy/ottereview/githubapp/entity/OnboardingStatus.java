@@ -0,0 +1,8 @@
+package com.ssafy.ottereview.githubapp.entity;
+
+public enum OnboardingStatus {
+    PENDING,
+    RUNNING,
+    FAILED,
+    COMPLETED
+}
@@ -0,0 +1,14 @@
+package com.ssafy.ottereview.githubapp.entity;
+
+/**
+ * 설치 작업의 단계. 각 단계는 끝날 때 다음 단계로 넘어가며 저장되므로, 재시작하면 마지막으로 끝낸 단계 다음부터 이어서 실행한다.
+ */
+public enum OnboardingStep {
+    // Account 생성과 사용자(조직 멤버) 연결
+    ACCOUNT,
+    // 저장소 목록 저장과 저장소별 체크포인트 생성
+    REPOSITORIES,
+    // 저장소별 브랜치/PR 가져오기
+    PULL_REQUESTS,
+    DONE
+}
@@ -30,7 +30,9 @@ public enum GithubAppErrorCode implements ErrorCode {
     GITHUB_APP_REVIEW_COMMENT_REPLY_CREATE_FAILED("GITHUB020", "GitHub 리뷰 댓글 답글 생성에 실패했습니다.", 500),
     GITHUB_APP_REVIEW_COMMENT_UPDATE_FAILED("GITHUB021", "GitHub 리뷰 댓글 수정에 실패했습니다.", 500),
     GITHUB_APP_REVIEW_COMMENT_DELETE_FAILED("GITHUB022", "GitHub 리뷰 댓글 삭제에 실패했습니다.", 500),
-    GITHUB_APP_REVIEW_COMMENT_NOT_FOUND("GITHUB023", "GitHub 리뷰 댓글을 찾을 수 없습니다.", 404);
+    GITHUB_APP_REVIEW_COMMENT_NOT_FOUND("GITHUB023", "GitHub 리뷰 댓글을 찾을 수 없습니다.", 404),
+    GITHUB_RATE_LIMIT_EXCEEDED("GITHUB024", "GitHub API 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", 429),
+    GITHUB_GRAPHQL_QUERY_FAILED("GITHUB025", "GitHub GraphQL 조회에 실패했습니다.", 500);
 
     private final String code;
     private final String message;
@@ -0,0 +1,43 @@
+package com.ssafy.ottereview.githubapp.repository;
+
+import com.ssafy.ottereview.githubapp.entity.InstallationOnboarding;
+import com.ssafy.ottereview.githubapp.entity.OnboardingStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InstallationOnboardingRepository extends JpaRepository<InstallationOnboarding, Long> {
+
+    Optional<InstallationOnboarding> findByInstallationId(Long installationId);
+
+    // 일정 시간 진행이 없는 미완료 작업 (서버 재시작으로 멈춘 작업, 실패 후 재시도 대기 중인 작업)
+    @Query("""
+            SELECT o FROM InstallationOnboarding o
+            WHERE o.status IN :statuses
+              AND o.attempts < :maxAttempts
+              AND o.modifiedAt < :before
+            ORDER BY o.id
+            """)
+    List<InstallationOnboarding> findStalled(@Param("statuses") Collection<OnboardingStatus> statuses,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("before") LocalDateTime before);
+
+    // 실행 중이거나 재시도될 작업 (시도 횟수를 다 쓴 작업도 최근까지 진행 중이었다면 포함)
+    @Query("""
+            SELECT COUNT(o) > 0 FROM InstallationOnboarding o
+            WHERE o.installationId = :installationId
+              AND (o.status = com.ssafy.ottereview.githubapp.entity.OnboardingStatus.PENDING
+                OR (o.status IN (com.ssafy.ottereview.githubapp.entity.OnboardingStatus.RUNNING,
+                                 com.ssafy.ottereview.githubapp.entity.OnboardingStatus.FAILED) AND o.attempts < :maxAttempts)
+                OR (o.status = com.ssafy.ottereview.githubapp.entity.OnboardingStatus.RUNNING AND o.modifiedAt >= :activeSince))
+            """)
+    boolean existsActive(@Param("installationId") Long installationId,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("activeSince") LocalDateTime activeSince);
+}
@@ -0,0 +1,15 @@
+package com.ssafy.ottereview.githubapp.repository;
+
+import com.ssafy.ottereview.githubapp.entity.InstallationOnboarding;
+import com.ssafy.ottereview.githubapp.entity.OnboardingRepoCheckpoint;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OnboardingRepoCheckpointRepository extends JpaRepository<OnboardingRepoCheckpoint, Long> {
+
+    List<OnboardingRepoCheckpoint> findAllByOnboardingOrderById(InstallationOnboarding onboarding);
+
+    List<OnboardingRepoCheckpoint> findAllByOnboardingAndCompletedFalseOrderById(InstallationOnboarding onboarding);
+}
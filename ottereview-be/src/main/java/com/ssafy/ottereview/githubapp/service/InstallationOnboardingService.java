@@ -0,0 +1,286 @@
+package com.ssafy.ottereview.githubapp.service;
+
+import com.ssafy.ottereview.account.entity.Account;
+import com.ssafy.ottereview.account.service.UserAccountService;
+import com.ssafy.ottereview.common.exception.BusinessException;
+import com.ssafy.ottereview.githubapp.client.GithubApiClient;
+import com.ssafy.ottereview.githubapp.client.GithubRateLimitTracker;
+import com.ssafy.ottereview.githubapp.dto.OnboardingProgressResponse;
+import com.ssafy.ottereview.githubapp.entity.InstallationOnboarding;
+import com.ssafy.ottereview.githubapp.entity.OnboardingRepoCheckpoint;
+import com.ssafy.ottereview.githubapp.entity.OnboardingStatus;
+import com.ssafy.ottereview.githubapp.entity.OnboardingStep;
+import com.ssafy.ottereview.githubapp.exception.GithubAppErrorCode;
+import com.ssafy.ottereview.githubapp.repository.InstallationOnboardingRepository;
+import com.ssafy.ottereview.githubapp.repository.OnboardingRepoCheckpointRepository;
+import com.ssafy.ottereview.repo.service.RepoService;
+import com.ssafy.ottereview.user.entity.User;
+import com.ssafy.ottereview.user.exception.UserErrorCode;
+import com.ssafy.ottereview.user.repository.UserRepository;
+import com.ssafy.ottereview.user.service.UserService;
+import com.ssafy.ottereview.webhook.controller.EventSendController;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.GHRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * GitHub App 설치 후 Account / 조직 멤버 / 저장소 / 브랜치 / PR 을 가져오는 작업을 백그라운드에서 실행한다.
+ * <p>
+ * 단계와 저장소별 완료 여부를 DB 에 기록하므로 실패하거나 서버가 재시작되어도 끝난 저장소는 건너뛰고 이어서 실행한다. 진행 상황은 설치한 사용자에게 SSE "onboarding" 이벤트로 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InstallationOnboardingService {
+
+    private static final String PROGRESS_EVENT = "onboarding";
+    private static final String ORGANIZATION = "Organization";
+
+    private final InstallationOnboardingRepository installationOnboardingRepository;
+    private final OnboardingRepoCheckpointRepository onboardingRepoCheckpointRepository;
+    private final UserRepository userRepository;
+    private final UserAccountService userAccountService;
+    private final UserService userService;
+    private final RepoService repoService;
+    private final GithubApiClient githubApiClient;
+    private final GithubRateLimitTracker githubRateLimitTracker;
+    private final EventSendController eventSendController;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor installationOnboardingExecutor;
+
+    // 이 서버에서 실행 중인 작업 id
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    @Value("${github.onboarding.max-attempts:5}")
+    private int maxAttempts;
+
+    // 이 시간 동안 진행이 없는 미완료 작업은 멈춘 것으로 보고 다시 실행한다.
+    @Value("${github.onboarding.stale-after-ms:120000}")
+    private long staleAfterMs;
+
+    /**
+     * 설치 작업을 등록하고 현재 트랜잭션이 커밋된 뒤 실행한다. 같은 installation 의 작업이 있으면 처음 단계부터 다시 실행한다.
+     */
+    @Transactional
+    public void start(Long installationId, User loginUser) {
+        InstallationOnboarding onboarding = installationOnboardingRepository.findByInstallationId(installationId)
+                .map(existing -> {
+                    existing.restart(loginUser.getId(), loginUser.getGithubId());
+                    return existing;
+                })
+                .orElseGet(() -> installationOnboardingRepository.save(
+                        InstallationOnboarding.create(installationId, loginUser.getId(), loginUser.getGithubId())));
+
+        Long onboardingId = onboarding.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(onboardingId);
+                }
+            });
+        } else {
+            submit(onboardingId);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${github.onboarding.resume-initial-delay-ms:30000}", fixedDelayString = "${github.onboarding.resume-interval-ms:60000}")
+    public void resumeStalled() {
+        LocalDateTime before = LocalDateTime.now()
+                .minus(Duration.ofMillis(staleAfterMs));
+        List<InstallationOnboarding> stalled = installationOnboardingRepository.findStalled(
+                List.of(OnboardingStatus.PENDING, OnboardingStatus.RUNNING, OnboardingStatus.FAILED), maxAttempts, before);
+        for (InstallationOnboarding onboarding : stalled) {
+            if (!runningJobs.contains(onboarding.getId())) {
+                log.info("설치 작업 재개: installationId={}, step={}, attempts={}", onboarding.getInstallationId(), onboarding.getStep(),
+                        onboarding.getAttempts());
+                submit(onboarding.getId());
+            }
+        }
+    }
+
+    /**
+     * installation 의 설치 작업이 아직 끝나지 않았는지 (실행 중이거나 재개될 예정인지) 확인한다. 그동안 다른 동기화가 같은 저장소를 가져오지 않게 할 때 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public boolean isInProgress(Long installationId) {
+        if (installationId == null) {
+            return false;
+        }
+        LocalDateTime activeSince = LocalDateTime.now()
+                .minus(Duration.ofMillis(staleAfterMs));
+        return installationOnboardingRepository.existsActive(installationId, maxAttempts, activeSince);
+    }
+
+    private void submit(Long onboardingId) {
+        installationOnboardingExecutor.execute(() -> run(onboardingId));
+    }
+
+    private void run(Long onboardingId) {
+        if (!runningJobs.add(onboardingId)) {
+            return;
+        }
+        try {
+            githubRateLimitTracker.runInBackground(() -> execute(onboardingId));
+        } catch (Exception e) {
+            log.warn("설치 작업 실패: onboardingId={}, message={}", onboardingId, e.getMessage());
+            InstallationOnboarding failed = transactionTemplate.execute(status -> installationOnboardingRepository.findById(onboardingId)
+                    .map(onboarding -> {
+                        onboarding.fail(e.getMessage());
+                        return onboarding;
+                    })
+                    .orElse(null));
+            if (failed != null) {
+                push(failed, null);
+            }
+        } finally {
+            runningJobs.remove(onboardingId);
+        }
+    }
+
+    private void execute(Long onboardingId) {
+        InstallationOnboarding onboarding = transactionTemplate.execute(status -> installationOnboardingRepository.findById(onboardingId)
+                .filter(found -> found.getStatus() != OnboardingStatus.COMPLETED)
+                .map(found -> {
+                    found.start();
+                    return found;
+                })
+                .orElse(null));
+        if (onboarding == null) {
+            return;
+        }
+        push(onboarding, null);
+
+        if (onboarding.getStep() == OnboardingStep.ACCOUNT) {
+            onboarding = transactionTemplate.execute(status -> linkAccount(onboardingId));
+            push(onboarding, null);
+        }
+
+        List<GHRepository> repositories = githubApiClient.getRepositories(onboarding.getInstallationId());
+
+        if (onboarding.getStep() == OnboardingStep.REPOSITORIES) {
+            onboarding = transactionTemplate.execute(status -> registerRepositories(onboardingId, repositories));
+            push(onboarding, null);
+        }
+
+        if (onboarding.getStep() == OnboardingStep.PULL_REQUESTS) {
+            importRepositories(onboarding, repositories);
+        }
+
+        onboarding = transactionTemplate.execute(status -> {
+            InstallationOnboarding completed = getOnboarding(onboardingId);
+            completed.complete();
+            return completed;
+        });
+        push(onboarding, null);
+        // 저장소 목록 화면 갱신 (installation_repositories 이벤트와 같은 알림)
+        eventSendController.push(onboarding.getRequestedGithubId(), "update", "update");
+        log.info("설치 작업 완료: installationId={}, repos={}", onboarding.getInstallationId(), onboarding.getTotalRepos());
+    }
+
+    private InstallationOnboarding linkAccount(Long onboardingId) {
+        InstallationOnboarding onboarding = getOnboarding(onboardingId);
+        Long installationId = onboarding.getInstallationId();
+
+        Account account = userAccountService.getAccountByInstallationId(installationId);
+        if (account == null) {
+            account = userAccountService.createAccount(githubApiClient.getAccount(installationId));
+        }
+
+        if (ORGANIZATION.equals(account.getType())) {
+            // Organization 일때 User 저장 및 Account , UserAccount에 저장
+            try {
+                userService.getOrganizationMember(installationId, account);
+            } catch (IOException e) {
+                throw new BusinessException(GithubAppErrorCode.GITHUB_APP_ORGANIZATION_MEMBER_NOT_FOUND);
+            }
+        } else {
+            // 개인 일때 존재하지 않은 UserAccount일 경우 UserAccount에 저장
+            User loginUser = userRepository.findById(onboarding.getRequestedUserId())
+                    .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
+            userAccountService.saveUserAndAccount(loginUser, account);
+        }
+
+        onboarding.linkAccount(account.getId());
+        return onboarding;
+    }
+
+    private InstallationOnboarding registerRepositories(Long onboardingId, List<GHRepository> repositories) {
+        InstallationOnboarding onboarding = getOnboarding(onboardingId);
+        Account account = userAccountService.getAccountByInstallationId(onboarding.getInstallationId());
+        repoService.registerRepositories(repositories, account);
+
+        List<OnboardingRepoCheckpoint> checkpoints = onboardingRepoCheckpointRepository.findAllByOnboardingOrderById(onboarding);
+        Set<Long> checkpointed = checkpoints.stream()
+                .map(OnboardingRepoCheckpoint::getRepoId)
+                .collect(Collectors.toSet());
+        List<OnboardingRepoCheckpoint> newCheckpoints = repositories.stream()
+                .filter(repository -> !checkpointed.contains(repository.getId()))
+                .map(repository -> OnboardingRepoCheckpoint.builder()
+                        .onboarding(onboarding)
+                        .repoId(repository.getId())
+                        .fullName(repository.getFullName())
+                        .build())
+                .toList();
+        onboardingRepoCheckpointRepository.saveAll(newCheckpoints);
+
+        int completed = (int) checkpoints.stream()
+                .filter(OnboardingRepoCheckpoint::isCompleted)
+                .count();
+        onboarding.registerRepositories(checkpoints.size() + newCheckpoints.size(), completed);
+        return onboarding;
+    }
+
+    /**
+     * 저장소마다 브랜치/PR 가져오기와 체크포인트 완료 표시를 한 트랜잭션으로 저장한다.
+     */
+    private void importRepositories(InstallationOnboarding onboarding, List<GHRepository> repositories) {
+        Long onboardingId = onboarding.getId();
+        Map<Long, GHRepository> repositoriesById = repositories.stream()
+                .collect(Collectors.toMap(GHRepository::getId, Function.identity()));
+
+        for (OnboardingRepoCheckpoint checkpoint : onboardingRepoCheckpointRepository.findAllByOnboardingAndCompletedFalseOrderById(onboarding)) {
+            InstallationOnboarding progress = transactionTemplate.execute(status -> {
+                GHRepository repository = repositoriesById.get(checkpoint.getRepoId());
+                if (repository != null) {
+                    repoService.importRepository(onboarding.getInstallationId(), repository);
+                } else {
+                    // 설치 이후 접근 권한이 빠진 저장소
+                    log.debug("설치 작업 중 사라진 저장소 건너뜀: {}", checkpoint.getFullName());
+                }
+                onboardingRepoCheckpointRepository.findById(checkpoint.getId())
+                        .ifPresent(OnboardingRepoCheckpoint::complete);
+                InstallationOnboarding current = getOnboarding(onboardingId);
+                current.completeRepository();
+                return current;
+            });
+            push(progress, checkpoint.getFullName());
+        }
+    }
+
+    private InstallationOnboarding getOnboarding(Long onboardingId) {
+        return installationOnboardingRepository.findById(onboardingId)
+                .orElseThrow(() -> new BusinessException(GithubAppErrorCode.GITHUB_APP_INSTALLATION_NOT_FOUND));
+    }
+
+    private void push(InstallationOnboarding onboarding, String currentRepo) {
+        eventSendController.push(onboarding.getRequestedGithubId(), PROGRESS_EVENT, OnboardingProgressResponse.of(onboarding, currentRepo));
+    }
+}
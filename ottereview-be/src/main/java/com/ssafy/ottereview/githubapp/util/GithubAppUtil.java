@@ -1,6 +1,8 @@
 package com.ssafy.ottereview.githubapp.util;
 
 import com.ssafy.ottereview.common.exception.BusinessException;
+import com.ssafy.ottereview.githubapp.client.GithubRateLimitTracker;
+import com.ssafy.ottereview.githubapp.client.GithubResponseCache;
 import com.ssafy.ottereview.githubapp.config.GithubAppConfig;
 import com.ssafy.ottereview.githubapp.exception.GithubAppErrorCode;
 import io.jsonwebtoken.JwtBuilder;
@@ -13,15 +15,20 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.kohsuke.github.GHAppInstallation;
 import org.kohsuke.github.GHAppInstallationToken;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -39,9 +46,23 @@ import org.springframework.web.client.RestTemplate;
 @Service
 public class GithubAppUtil {
     
+    // installation token 유효 기간은 1시간, 만료 5분 전에 미리 갱신한다.
+    private static final Duration INSTALLATION_TOKEN_TTL = Duration.ofHours(1);
+    private static final Duration INSTALLATION_TOKEN_REFRESH_MARGIN = Duration.ofMinutes(5);
+    // 앱 JWT 는 만료 1분 전까지 재사용한다.
+    private static final Duration APP_JWT_REFRESH_MARGIN = Duration.ofMinutes(1);
+    
     private final GithubAppConfig githubAppConfig;
     private final byte[] githubAppPrivateKeyBytes;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final GithubResponseCache githubResponseCache;
+    private final GithubRateLimitTracker githubRateLimitTracker;
+    private final GitHubConnector githubConnector;
+    private final RestTemplate githubRestTemplate;
+    private final Map<Long, InstallationSession> installationSessions = new ConcurrentHashMap<>();
+    private final Map<Long, ReentrantLock> installationLocks = new ConcurrentHashMap<>();
+    private final Object appJwtLock = new Object();
+    private volatile PrivateKey privateKey;
+    private volatile AppSession appSession;
     
     @Value("${github.app.oauth.client-id}")
     private String clientId;
@@ -55,13 +76,25 @@ public class GithubAppUtil {
     @Value("${github.app.authentication-jwt-expm}")
     private Long jwtTExpirationMillis; // 10분
     
+    /**
+     * PKCS8 개인 키는 처음 한 번만 파싱하고 이후에는 재사용한다.
+     */
     private PrivateKey getPrivateKey() {
-        try {
-            PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(githubAppPrivateKeyBytes);
-            KeyFactory kf = KeyFactory.getInstance("RSA");
-            return kf.generatePrivate(spec);
-        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
-            throw new BusinessException(GithubAppErrorCode.GITHUB_APP_PRIVATE_KEY_ERROR);
+        PrivateKey key = privateKey;
+        if (key != null) {
+            return key;
+        }
+        synchronized (appJwtLock) {
+            if (privateKey == null) {
+                try {
+                    PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(githubAppPrivateKeyBytes);
+                    KeyFactory kf = KeyFactory.getInstance("RSA");
+                    privateKey = kf.generatePrivate(spec);
+                } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+                    throw new BusinessException(GithubAppErrorCode.GITHUB_APP_PRIVATE_KEY_ERROR);
+                }
+            }
+            return privateKey;
         }
     }
     
@@ -86,26 +119,19 @@ public class GithubAppUtil {
     }
     
     public GitHub getGitHub(long installationId) {
-        
         try {
-            // 1. JWT 생성
-            String jwtToken = generateJwt(jwtTExpirationMillis);
-            
-            // 2. Github 인증
-            GitHub gitHubApp = new GitHubBuilder()
-                    .withJwtToken(jwtToken)
-                    .build();
-            
-            // 3. installation_token 발급
-            GHAppInstallation installation = gitHubApp.getApp()
-                    .getInstallationById(installationId);
-            GHAppInstallationToken installationToken = installation.createToken()
-                    .create();
-            
-            // 4. installation_token을 사용하여 GitHub 클라이언트 생성
-            return new GitHubBuilder()
-                    .withAppInstallationToken(installationToken.getToken())
-                    .build();
+            return getInstallationSession(installationId).gitHub();
+        } catch (Exception e) {
+            throw new BusinessException(GithubAppErrorCode.GITHUB_APP_CREATE_FAILED);
+        }
+    }
+    
+    /**
+     * installation 의 GitHub 클라이언트와 같은 connector (ETag 캐시 -> rate limit 추적 -> HTTP). 라이브러리로 보낼 수 없는 GET 요청도 같은 경로를 타게 한다.
+     */
+    public GitHubConnector getConnector(long installationId) {
+        try {
+            return getInstallationSession(installationId).connector();
         } catch (Exception e) {
             throw new BusinessException(GithubAppErrorCode.GITHUB_APP_CREATE_FAILED);
         }
@@ -113,15 +139,32 @@ public class GithubAppUtil {
     
     public GitHub getGitHubAsApp() {
         try {
-            String jwt = generateJwt(jwtTExpirationMillis); // JWT 유효 기간 10분
-            return new GitHubBuilder()
-                    .withJwtToken(jwt)
-                    .build();
+            return getAppSession().gitHub();
         } catch (Exception e) {
             throw new BusinessException(GithubAppErrorCode.GITHUB_APP_CREATE_FAILED);
         }
     }
     
+    private AppSession getAppSession() throws IOException {
+        AppSession session = appSession;
+        if (session != null && !session.isExpiringSoon()) {
+            return session;
+        }
+        synchronized (appJwtLock) {
+            if (appSession == null || appSession.isExpiringSoon()) {
+                Instant expiresAt = Instant.now()
+                        .plusMillis(jwtTExpirationMillis);
+                String jwt = generateJwt(jwtTExpirationMillis); // JWT 유효 기간 10분
+                GitHub gitHubApp = new GitHubBuilder()
+                        .withJwtToken(jwt)
+                        .withConnector(githubConnector)
+                        .build();
+                appSession = new AppSession(expiresAt, gitHubApp);
+            }
+            return appSession;
+        }
+    }
+    
     public GHAppInstallation getInstallation(Long installationId) throws IOException {
         GitHub gitHub = getGitHubAsApp();
         return gitHub.getApp()
@@ -148,7 +191,7 @@ public class GithubAppUtil {
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
         
         try {
-            ResponseEntity<Map<String, Object>> responseEntity = restTemplate.exchange(
+            ResponseEntity<Map<String, Object>> responseEntity = githubRestTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     request,
@@ -195,17 +238,99 @@ public class GithubAppUtil {
     
     public String getInstallationToken(long installationId) {
         try {
-            String jwtToken = generateJwt(jwtTExpirationMillis);
-            GitHub gitHubApp = new GitHubBuilder().withJwtToken(jwtToken)
-                    .build();
-            GHAppInstallation installation = gitHubApp.getApp()
-                    .getInstallationById(installationId);
-            GHAppInstallationToken token = installation.createToken()
-                    .create();
-            return token.getToken();
+            return getInstallationSession(installationId).token();
         } catch (Exception e) {
             throw new BusinessException(GithubAppErrorCode.GITHUB_TOKEN_REQUEST_FAILED, "Installation 토큰 발급에 실패하였습니다.");
         }
     }
     
+    /**
+     * 캐시된 installation token / GitHub 클라이언트를 폐기한다. (앱 삭제, 권한 변경 시)
+     */
+    public void evictInstallation(long installationId) {
+        installationSessions.remove(installationId);
+        installationLocks.remove(installationId);
+        log.debug("installation 캐시 삭제: installationId={}", installationId);
+    }
+    
+    /**
+     * installation 별 token 과 GitHub 클라이언트를 캐시에서 가져온다. 만료가 임박했으면 한 스레드만 새로 발급하고, 나머지 스레드는 그 결과를 같이 사용한다.
+     */
+    private InstallationSession getInstallationSession(long installationId) throws IOException {
+        InstallationSession session = installationSessions.get(installationId);
+        if (session != null && !session.isExpiringSoon()) {
+            return session;
+        }
+        
+        ReentrantLock lock = installationLocks.computeIfAbsent(installationId, id -> new ReentrantLock());
+        lock.lock();
+        try {
+            // 락을 기다리는 동안 다른 스레드가 이미 갱신했을 수 있다.
+            session = installationSessions.get(installationId);
+            if (session != null && !session.isExpiringSoon()) {
+                return session;
+            }
+            
+            InstallationSession refreshed = createInstallationSession(installationId);
+            installationSessions.put(installationId, refreshed);
+            return refreshed;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private InstallationSession createInstallationSession(long installationId) throws IOException {
+        // 1. 앱 JWT 로 인증된 GitHub 클라이언트 (캐시 재사용)
+        GitHub gitHubApp = getAppSession().gitHub();
+        
+        // 2. installation_token 발급
+        GHAppInstallation installation = gitHubApp.getApp()
+                .getInstallationById(installationId);
+        GHAppInstallationToken installationToken = installation.createToken()
+                .create();
+        
+        // 3. installation_token을 사용하여 GitHub 클라이언트 생성 (조회 요청은 ETag 캐시를 거친다)
+        GitHubConnector connector = githubResponseCache.connector(installationId,
+                githubRateLimitTracker.connector(installationId, githubConnector));
+        GitHub gitHub = new GitHubBuilder()
+                .withAppInstallationToken(installationToken.getToken())
+                .withConnector(connector)
+                .build();
+        
+        Instant expiresAt = toInstant(installationToken.getExpiresAt());
+        log.debug("installation token 발급: installationId={}, expiresAt={}", installationId, expiresAt);
+        
+        return new InstallationSession(installationToken.getToken(), expiresAt, gitHub, connector);
+    }
+    
+    private Instant toInstant(Object expiresAt) {
+        if (expiresAt instanceof Instant instant) {
+            return instant;
+        }
+        if (expiresAt instanceof Date date) {
+            return date.toInstant();
+        }
+        // 만료 시간을 알 수 없으면 GitHub 기본 유효 기간(1시간)으로 계산
+        return Instant.now()
+                .plus(INSTALLATION_TOKEN_TTL);
+    }
+    
+    private record AppSession(Instant expiresAt, GitHub gitHub) {
+        
+        boolean isExpiringSoon() {
+            return Instant.now()
+                    .plus(APP_JWT_REFRESH_MARGIN)
+                    .isAfter(expiresAt);
+        }
+    }
+    
+    private record InstallationSession(String token, Instant expiresAt, GitHub gitHub, GitHubConnector connector) {
+        
+        boolean isExpiringSoon() {
+            return Instant.now()
+                    .plus(INSTALLATION_TOKEN_REFRESH_MARGIN)
+                    .isAfter(expiresAt);
+        }
+    }
+    
 }
@@ -2,6 +2,7 @@ package com.ssafy.ottereview.githubapp.util;
 
 import com.ssafy.ottereview.account.entity.Account;
 import com.ssafy.ottereview.account.service.UserAccountService;
+import com.ssafy.ottereview.githubapp.client.GithubRateLimitTracker;
 import com.ssafy.ottereview.repo.service.RepoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,11 +17,12 @@ public class GithubUpdateFacade {
 
     private final UserAccountService userAccountService;
     private final RepoService repoService;
+    private final GithubRateLimitTracker githubRateLimitTracker;
 
     // process update 로직 추가
     public void processUpdateWithOAuth(Long installationId) {
 
         Account account = userAccountService.getAccountByInstallationId(installationId);
-        repoService.processSyncRepo(account, installationId);
+        githubRateLimitTracker.runInBackground(() -> repoService.processSyncRepo(account, installationId));
     }
 }
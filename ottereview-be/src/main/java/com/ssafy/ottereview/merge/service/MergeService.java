@@ -54,15 +54,11 @@ import org.eclipse.jgit.transport.TransportHttp;
 import org.eclipse.jgit.transport.URIish;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.eclipse.jgit.treewalk.TreeWalk;
-import org.kohsuke.github.GHAppInstallation;
-import org.kohsuke.github.GHAppInstallationToken;
 import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
-import org.kohsuke.github.GitHubBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -82,9 +78,6 @@ public class MergeService {
     private final RepoRepository repoRepository;
     private final PullRequestService pullRequestService;
     
-    @Value("${github.app.authentication-jwt-expm}")
-    private Long jwtTExpirationMillis;
-    
     public static void deleteDirectoryRecursively(File dir) {
         
         try {
@@ -132,26 +125,14 @@ public class MergeService {
         return jobTempDir;
     }
     
-    public GHAppInstallationToken getToken(Long installationId) throws Exception {
-        String jwtToken = githubAppUtil.generateJwt(jwtTExpirationMillis);
-        
-        // 2. Github 인증
-        GitHub gitHubApp = new GitHubBuilder()
-                .withJwtToken(jwtToken)
-                .build();
-        
-        // 3. installation_token 발급
-        GHAppInstallation installation = gitHubApp.getApp()
-                .getInstallationById(installationId);
-        GHAppInstallationToken installationToken = installation.createToken()
-                .create();
-        return installationToken;
+    public String getToken(Long installationId) {
+        // installation_token 은 GithubAppUtil 에서 캐시된 값을 재사용한다.
+        return githubAppUtil.getInstallationToken(installationId);
     }
     
     public Git cloneRepository(String repoUrl, String localPath, Long installationId)
             throws Exception {
-        GHAppInstallationToken installationToken = getToken(installationId);
-        var creds = new UsernamePasswordCredentialsProvider("x-access-token", installationToken.getToken());
+        var creds = new UsernamePasswordCredentialsProvider("x-access-token", getToken(installationId));
         return Git.cloneRepository()
                 .setURI(repoUrl)
                 .setDirectory(new File(localPath))
@@ -169,8 +150,7 @@ public class MergeService {
     }
     
     public MergeResult tryMerge(Git git, String baseBranch, String compareBranch, Long installationId) throws Exception {
-        GHAppInstallationToken installationToken = getToken(installationId);
-        var creds = new UsernamePasswordCredentialsProvider("x-access-token", installationToken.getToken());
+        var creds = new UsernamePasswordCredentialsProvider("x-access-token", getToken(installationId));
         
         // 1. 원격 최신 가져오기
         git.fetch()
@@ -310,8 +290,7 @@ public class MergeService {
 
             ensureOrigin(git, repoUrl);
 
-            GHAppInstallationToken installationToken = getToken(installationId);
-            var creds = new UsernamePasswordCredentialsProvider("x-access-token", installationToken.getToken());
+            var creds = new UsernamePasswordCredentialsProvider("x-access-token", getToken(installationId));
             // 2. 원격 브랜치 정보 fetch (한 번만)
             git.fetch()
                     .setRemote("origin")
@@ -381,8 +360,7 @@ public class MergeService {
 
     private String getFileContentFromBranch(Git git, String branch, String path, Long installationId) throws Exception {
         Repository repo = git.getRepository();
-        GHAppInstallationToken installationToken = getToken(installationId);
-        var creds = new UsernamePasswordCredentialsProvider("x-access-token", installationToken.getToken());
+        var creds = new UsernamePasswordCredentialsProvider("x-access-token", getToken(installationId));
         // 1) 먼저 fetch
         git.fetch()
                 .setRemote("origin")
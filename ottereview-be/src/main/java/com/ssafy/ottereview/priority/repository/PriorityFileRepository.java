@@ -4,8 +4,14 @@ import com.ssafy.ottereview.priority.entity.Priority;
 import com.ssafy.ottereview.priority.entity.PriorityFile;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PriorityFileRepository extends JpaRepository<PriorityFile, Long> {
 
     List<PriorityFile> findAllByPriority(Priority priority);
+
+    // PR 의 모든 우선순위 파일을 한 번에 조회
+    @Query("SELECT pf FROM PriorityFile pf WHERE pf.priority.pullRequest.id = :pullRequestId ORDER BY pf.id")
+    List<PriorityFile> findAllByPullRequestId(@Param("pullRequestId") Long pullRequestId);
 }
@@ -4,11 +4,16 @@ import com.ssafy.ottereview.priority.entity.Priority;
 import com.ssafy.ottereview.pullrequest.entity.PullRequest;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PriorityRepository extends JpaRepository<Priority, Long> {
 
     List<Priority> findAllByPullRequest(PullRequest pullRequest);
 
+    @Query("SELECT p FROM Priority p WHERE p.pullRequest.id = :pullRequestId ORDER BY p.id")
+    List<Priority> findAllByPullRequestId(@Param("pullRequestId") Long pullRequestId);
+
 
 
 }
@@ -25,6 +25,10 @@ public class PullRequestDescriptionInfo {
     private String voiceFileUrl;
 
     public static PullRequestDescriptionInfo fromEntity(Description description) {
+        return fromEntity(description, null);
+    }
+
+    public static PullRequestDescriptionInfo fromEntity(Description description, String voiceFileUrl) {
         return PullRequestDescriptionInfo.builder()
                 .id(description.getId())
                 .path(description.getPath())
@@ -36,6 +40,7 @@ public class PullRequestDescriptionInfo {
                 .line(description.getLine())
                 .side(description.getSide())
                 .diffHunk(description.getDiffHunk())
+                .voiceFileUrl(voiceFileUrl)
                 .build();
     }
 }
@@ -1,5 +1,7 @@
 package com.ssafy.ottereview.pullrequest.dto.info;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,6 +12,7 @@ import org.kohsuke.github.GHPullRequestFileDetail;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class PullRequestFileInfo {
 
     private String filename;
@@ -18,9 +21,13 @@ public class PullRequestFileInfo {
     private int deletions;
     private int changes;
     private String patch;
+    // GitHub REST 응답(snake_case)을 직접 역직렬화할 때 사용
+    @JsonAlias("previous_filename")
     private String previousFilename;
     private String sha;
+    @JsonAlias("blob_url")
     private String blobUrl;
+    @JsonAlias("raw_url")
     private String rawUrl;
 
     public static PullRequestFileInfo from(GHPullRequestFileDetail detail) {
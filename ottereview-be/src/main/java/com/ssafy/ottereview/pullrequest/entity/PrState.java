@@ -6,7 +6,11 @@ public enum PrState {
     MERGED;
 
     public static PrState fromGithubState(String state, Boolean merged) {
-        if ("closed".equals(state)) {
+        // webhook/REST 는 소문자, GraphQL 과 GHIssueState 는 대문자로 온다.
+        if ("merged".equalsIgnoreCase(state)) {
+            return MERGED;
+        }
+        if ("closed".equalsIgnoreCase(state)) {
             return (merged != null && merged) ? MERGED : CLOSED;
         }
         return OPEN;
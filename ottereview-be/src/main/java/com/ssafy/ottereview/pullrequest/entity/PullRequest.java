@@ -17,6 +17,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.net.URL;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -32,7 +33,8 @@ import org.hibernate.annotations.OnDeleteAction;
 @Getter
 @Builder
 @Entity
-@Table(name = "pull_request")
+// 웹훅과 증분 동기화가 같은 PR 을 동시에 저장하지 않도록 GitHub id 로 한 건만 허용한다.
+@Table(name = "pull_request", uniqueConstraints = @UniqueConstraint(name = "uk_pull_request_github_id", columnNames = "github_id"))
 public class PullRequest extends BaseEntity {
 
     @Id
@@ -119,6 +121,32 @@ public class PullRequest extends BaseEntity {
         this.mergeable = mergeable;
     }
 
+    public void fillDetail(GithubPrResponse githubPrResponse) {
+        this.commitCnt = githubPrResponse.getCommitCnt();
+        this.changedFilesCnt = githubPrResponse.getChangedFilesCnt();
+        this.commentCnt = githubPrResponse.getCommentCnt();
+        this.reviewCommentCnt = githubPrResponse.getReviewCommentCnt();
+        if (githubPrResponse.getMergeable() != null) {
+            this.mergeable = githubPrResponse.getMergeable();
+        }
+    }
+
+    /**
+     * 놓친 webhook 을 보정할 때 GitHub 목록 응답의 값으로 갱신한다. 목록 응답에 없는 개수 정보는 값이 있을 때만 덮어쓴다.
+     */
+    public void syncFromGithub(GithubPrResponse githubPrResponse) {
+        this.commitSha = githubPrResponse.getCommitSha();
+        this.title = githubPrResponse.getTitle();
+        this.body = githubPrResponse.getBody();
+        this.state = PrState.fromGithubState(githubPrResponse.getState(), githubPrResponse.getMerged());
+        this.merged = githubPrResponse.getMerged() != null && githubPrResponse.getMerged();
+        this.base = githubPrResponse.getBase();
+        this.githubUpdatedAt = githubPrResponse.getGithubUpdatedAt();
+        if (githubPrResponse.hasDetail()) {
+            fillDetail(githubPrResponse);
+        }
+    }
+
     public void enrollRepo(Repo repo) {
         this.repo = repo;
     }
@@ -6,6 +6,7 @@ import com.ssafy.ottereview.repo.entity.Repo;
 import com.ssafy.ottereview.user.entity.User;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,7 +34,9 @@ public interface PullRequestRepository extends JpaRepository<PullRequest, Long>
 
     @Query("""
   SELECT p FROM PullRequest p
-  WHERE p.repo.repoId = :repoId
+  JOIN FETCH p.repo r
+  LEFT JOIN FETCH p.author
+  WHERE r.repoId = :repoId
     AND (:cursorUpdatedAt IS NULL OR p.githubUpdatedAt < :cursorUpdatedAt
          OR (p.githubUpdatedAt= :cursorUpdatedAt AND p.id < :cursorId))
   ORDER BY p.githubUpdatedAt DESC, p.id DESC
@@ -45,4 +48,7 @@ public interface PullRequestRepository extends JpaRepository<PullRequest, Long>
             Pageable pageable);
 
     boolean existsByGithubId(Long githubId);
+
+    // 동기화 시 PR 마다 존재 여부를 묻지 않고 한 번에 비교하기 위한 조회
+    List<PullRequest> findAllByGithubIdIn(Collection<Long> githubIds);
 }
@@ -0,0 +1,136 @@
+package com.ssafy.ottereview.pullrequest.service;
+
+import com.ssafy.ottereview.description.repository.DescriptionRepository;
+import com.ssafy.ottereview.priority.entity.PriorityFile;
+import com.ssafy.ottereview.priority.repository.PriorityFileRepository;
+import com.ssafy.ottereview.priority.repository.PriorityRepository;
+import com.ssafy.ottereview.pullrequest.dto.info.PullRequestDescriptionInfo;
+import com.ssafy.ottereview.pullrequest.dto.info.PullRequestPriorityInfo;
+import com.ssafy.ottereview.pullrequest.dto.info.PullRequestReviewCommentInfo;
+import com.ssafy.ottereview.pullrequest.dto.info.PullRequestReviewInfo;
+import com.ssafy.ottereview.pullrequest.dto.info.PullRequestReviewerInfo;
+import com.ssafy.ottereview.pullrequest.dto.response.PullRequestDetailResponse;
+import com.ssafy.ottereview.review.dto.ReviewCommentDetailResponse;
+import com.ssafy.ottereview.review.dto.ReviewDetailResponse;
+import com.ssafy.ottereview.review.entity.Review;
+import com.ssafy.ottereview.review.repository.ReviewRepository;
+import com.ssafy.ottereview.reviewcomment.entity.ReviewComment;
+import com.ssafy.ottereview.reviewcomment.repository.ReviewCommentRepository;
+import com.ssafy.ottereview.reviewer.repository.ReviewerRepository;
+import com.ssafy.ottereview.s3.service.S3Service;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PR 상세 화면에 필요한 리뷰 / 리뷰 코멘트 / Description / 리뷰어 / 우선순위를 PR id 기준의 고정된 수의 쿼리로 읽어 메모리에서 묶는다.
+ * <p>
+ * 리뷰 수, 우선순위 수와 관계없이 리뷰 스레드는 2번, 상세 전체는 6번의 쿼리로 끝난다. 리뷰 스레드를 보여주는 API 는 모두 이 클래스를 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PullRequestDetailAssembler {
+
+    private static final int VOICE_URL_EXPIRATION_MINUTES = 60;
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewCommentRepository reviewCommentRepository;
+    private final ReviewerRepository reviewerRepository;
+    private final DescriptionRepository descriptionRepository;
+    private final PriorityRepository priorityRepository;
+    private final PriorityFileRepository priorityFileRepository;
+    private final S3Service s3Service;
+
+    /**
+     * GitHub 에서 가져온 상세 응답에 DB 에 저장된 리뷰어 / Description / 리뷰 / 우선순위를 채운다.
+     */
+    public void enroll(PullRequestDetailResponse response, Long pullRequestId) {
+        List<PullRequestReviewerInfo> reviewers = reviewerRepository.findAllWithUserByPullRequestId(pullRequestId)
+                .stream()
+                .map(PullRequestReviewerInfo::fromEntity)
+                .toList();
+
+        List<PullRequestDescriptionInfo> descriptions = descriptionRepository.findAllByPullRequestId(pullRequestId)
+                .stream()
+                .map(description -> PullRequestDescriptionInfo.fromEntity(description, voiceFileUrl(description.getRecordKey())))
+                .toList();
+
+        ReviewThreads threads = loadReviewThreads(pullRequestId);
+        List<PullRequestReviewInfo> reviews = threads.reviews()
+                .stream()
+                .map(review -> PullRequestReviewInfo.fromEntityAndReviewComment(review, threads.commentsOf(review)
+                        .stream()
+                        .map(reviewComment -> PullRequestReviewCommentInfo.fromEntity(reviewComment,
+                                voiceFileUrl(reviewComment.getRecordKey())))
+                        .toList()))
+                .toList();
+
+        Map<Long, List<String>> fileNamesByPriorityId = priorityFileRepository.findAllByPullRequestId(pullRequestId)
+                .stream()
+                .collect(Collectors.groupingBy(priorityFile -> priorityFile.getPriority()
+                        .getId(), Collectors.mapping(PriorityFile::getFileName, Collectors.toList())));
+        List<PullRequestPriorityInfo> priorities = priorityRepository.findAllByPullRequestId(pullRequestId)
+                .stream()
+                .map(priority -> PullRequestPriorityInfo.fromEntityAndFiles(priority,
+                        fileNamesByPriorityId.getOrDefault(priority.getId(), List.of())))
+                .toList();
+
+        response.enrollDescription(descriptions);
+        response.enrollReviewers(reviewers);
+        response.enrollReview(reviews);
+        response.enrollPriorities(priorities);
+    }
+
+    /**
+     * PR 의 리뷰 목록을 코멘트와 함께 반환한다.
+     */
+    public List<ReviewDetailResponse> getReviewThreads(Long pullRequestId) {
+        ReviewThreads threads = loadReviewThreads(pullRequestId);
+        return threads.reviews()
+                .stream()
+                .map(review -> ReviewDetailResponse.fromEntityAndReviewComment(review, threads.commentsOf(review)
+                        .stream()
+                        .map(reviewComment -> ReviewCommentDetailResponse.fromEntity(reviewComment,
+                                voiceFileUrl(reviewComment.getRecordKey())))
+                        .toList()))
+                .toList();
+    }
+
+    private ReviewThreads loadReviewThreads(Long pullRequestId) {
+        List<Review> reviews = reviewRepository.findAllWithUserByPullRequestId(pullRequestId);
+        if (reviews.isEmpty()) {
+            return new ReviewThreads(reviews, Map.of());
+        }
+        Map<Long, List<ReviewComment>> commentsByReviewId = reviewCommentRepository.findAllWithUserByPullRequestId(pullRequestId)
+                .stream()
+                .collect(Collectors.groupingBy(reviewComment -> reviewComment.getReview()
+                        .getId()));
+        return new ReviewThreads(reviews, commentsByReviewId);
+    }
+
+    private String voiceFileUrl(String recordKey) {
+        if (recordKey == null || recordKey.isBlank()) {
+            return null;
+        }
+        try {
+            return s3Service.generatePresignedUrl(recordKey, VOICE_URL_EXPIRATION_MINUTES);
+        } catch (Exception e) {
+            // URL 생성 실패 시 null 처리
+            log.debug("음성 파일 URL 생성 실패: null 반환 - recordKey: {}, {}", recordKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private record ReviewThreads(List<Review> reviews, Map<Long, List<ReviewComment>> commentsByReviewId) {
+
+        List<ReviewComment> commentsOf(Review review) {
+            return commentsByReviewId.getOrDefault(review.getId(), List.of());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ssafy.ottereview.pullrequest.service;
+
+import com.ssafy.ottereview.common.exception.BusinessException;
+import com.ssafy.ottereview.githubapp.client.GithubPullRequestSnapshotLoader;
+import com.ssafy.ottereview.githubapp.client.GithubRateLimitTracker;
+import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.githubapp.util.GithubAppUtil;
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.GHRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PR 목록 응답만으로 저장한 PR 의 개수(커밋, 파일, 코멘트)와 머지 가능 여부를 백그라운드에서 한꺼번에 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PullRequestDetailSyncService {
+
+    private final GithubPullRequestSnapshotLoader githubPullRequestSnapshotLoader;
+    private final GithubAppUtil githubAppUtil;
+    private final GithubRateLimitTracker githubRateLimitTracker;
+    private final PullRequestRepository pullRequestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor githubSyncExecutor;
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤(저장된 PR 이 보이는 시점에) 백그라운드 작업을 시작한다.
+     */
+    public void fillDetailsAfterCommit(Long installationId, String repositoryName, List<Long> pullRequestIds) {
+        if (pullRequestIds.isEmpty()) {
+            return;
+        }
+
+        Runnable task = () -> githubSyncExecutor.execute(() -> fillDetails(installationId, repositoryName, pullRequestIds));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void fillDetails(Long installationId, String repositoryName, List<Long> pullRequestIds) {
+        githubRateLimitTracker.runInBackground(() -> {
+            try {
+                List<Integer> prNumbers = pullRequestRepository.findAllById(pullRequestIds)
+                        .stream()
+                        .map(PullRequest::getGithubPrNumber)
+                        .toList();
+
+                // GitHub 조회는 트랜잭션 밖에서 하고, 반영만 짧은 트랜잭션으로 처리한다.
+                Map<Integer, GithubPrResponse> details = loadDetails(installationId, repositoryName, prNumbers);
+
+                transactionTemplate.executeWithoutResult(status -> pullRequestRepository.findAllById(pullRequestIds)
+                        .forEach(pullRequest -> {
+                            GithubPrResponse detail = details.get(pullRequest.getGithubPrNumber());
+                            if (detail != null) {
+                                pullRequest.fillDetail(detail);
+                            }
+                        }));
+
+                log.debug("PR 상세 정보 동기화 완료: repository={}, count={}", repositoryName, details.size());
+            } catch (Exception e) {
+                log.warn("PR 상세 정보 동기화 실패: repository={}, message={}", repositoryName, e.getMessage());
+            }
+        });
+    }
+
+    private Map<Integer, GithubPrResponse> loadDetails(Long installationId, String repositoryName, List<Integer> prNumbers) throws IOException {
+        try {
+            return githubPullRequestSnapshotLoader.loadPullRequests(installationId, repositoryName, prNumbers);
+        } catch (BusinessException e) {
+            log.warn("GraphQL PR 상세 조회 실패, REST 로 재시도: repository={}", repositoryName);
+        }
+
+        GHRepository repository = githubAppUtil.getGitHub(installationId)
+                .getRepository(repositoryName);
+        Map<Integer, GithubPrResponse> details = new HashMap<>();
+        for (Integer prNumber : prNumbers) {
+            details.put(prNumber, GithubPrResponse.from(repository.getPullRequest(prNumber)));
+        }
+        return details;
+    }
+}
@@ -1,9 +1,11 @@
 package com.ssafy.ottereview.pullrequest.service;
 
+import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
 import com.ssafy.ottereview.pullrequest.dto.request.PullRequestCreateRequest;
 import com.ssafy.ottereview.pullrequest.dto.response.PullRequestDetailResponse;
 import com.ssafy.ottereview.pullrequest.dto.response.PullRequestResponse;
 import com.ssafy.ottereview.pullrequest.dto.response.PullRequestValidationResponse;
+import com.ssafy.ottereview.repo.entity.Repo;
 import com.ssafy.ottereview.user.entity.CustomUserDetail;
 import java.util.List;
 import org.kohsuke.github.GHRepository;
@@ -46,6 +48,11 @@ public interface PullRequestService {
      * Github에 있는 PullRequest를 DB에 저장합니다.
      */
     void createPullRequestFromGithub(List<GHRepository> GHRepositories);
+
+    /**
+     * 마지막 동기화 이후 GitHub 에서 바뀐 PR 을 DB 에 반영합니다. 있는 PR 은 갱신하고, 없는 열린 PR 은 새로 저장합니다.
+     */
+    void reconcilePullRequests(Long installationId, Repo repo, List<GithubPrResponse> changedPullRequests);
     
     /**
      * Pull Request를 닫습니다 (DB와 GitHub 동시에).
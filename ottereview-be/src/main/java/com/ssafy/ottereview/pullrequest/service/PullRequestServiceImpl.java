@@ -3,21 +3,14 @@ package com.ssafy.ottereview.pullrequest.service;
 import com.ssafy.ottereview.account.service.UserAccountService;
 import com.ssafy.ottereview.common.config.utils.CursorUtils;
 import com.ssafy.ottereview.common.exception.BusinessException;
-import com.ssafy.ottereview.description.repository.DescriptionRepository;
 import com.ssafy.ottereview.githubapp.client.GithubApiClient;
+import com.ssafy.ottereview.githubapp.client.GithubFanOut;
 import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.githubapp.dto.GithubUserResponse;
 import com.ssafy.ottereview.preparation.dto.PrUserInfo;
 import com.ssafy.ottereview.preparation.dto.PreparationResult;
 import com.ssafy.ottereview.preparation.repository.PreparationRedisRepository;
-import com.ssafy.ottereview.priority.entity.PriorityFile;
-import com.ssafy.ottereview.priority.repository.PriorityFileRepository;
-import com.ssafy.ottereview.priority.repository.PriorityRepository;
 import com.ssafy.ottereview.pullrequest.dto.info.MergeStatusResult;
-import com.ssafy.ottereview.pullrequest.dto.info.PullRequestDescriptionInfo;
-import com.ssafy.ottereview.pullrequest.dto.info.PullRequestPriorityInfo;
-import com.ssafy.ottereview.pullrequest.dto.info.PullRequestReviewCommentInfo;
-import com.ssafy.ottereview.pullrequest.dto.info.PullRequestReviewInfo;
-import com.ssafy.ottereview.pullrequest.dto.info.PullRequestReviewerInfo;
 import com.ssafy.ottereview.pullrequest.dto.request.PullRequestCreateRequest;
 import com.ssafy.ottereview.pullrequest.dto.response.PullRequestDetailResponse;
 import com.ssafy.ottereview.pullrequest.dto.response.PullRequestResponse;
@@ -30,26 +23,32 @@ import com.ssafy.ottereview.pullrequest.util.PullRequestMapper;
 import com.ssafy.ottereview.repo.entity.Repo;
 import com.ssafy.ottereview.repo.exception.RepoErrorCode;
 import com.ssafy.ottereview.repo.repository.RepoRepository;
-import com.ssafy.ottereview.review.repository.ReviewRepository;
-import com.ssafy.ottereview.reviewcomment.repository.ReviewCommentRepository;
+import com.ssafy.ottereview.reviewer.dto.ReviewerApprovalCount;
 import com.ssafy.ottereview.reviewer.entity.ReviewStatus;
 import com.ssafy.ottereview.reviewer.entity.Reviewer;
 import com.ssafy.ottereview.reviewer.repository.ReviewerRepository;
-import com.ssafy.ottereview.s3.service.S3Service;
 import com.ssafy.ottereview.user.entity.CustomUserDetail;
 import com.ssafy.ottereview.user.entity.User;
 import com.ssafy.ottereview.user.exception.UserErrorCode;
 import com.ssafy.ottereview.user.repository.UserRepository;
+import com.ssafy.ottereview.user.service.UserIdentityResolver;
 import jakarta.transaction.Transactional;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.kohsuke.github.GHIssueState;
 import org.kohsuke.github.GHRepository;
-import org.kohsuke.github.GHUser;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -64,16 +63,14 @@ public class PullRequestServiceImpl implements PullRequestService {
     private final PullRequestRepository pullRequestRepository;
     private final RepoRepository repoRepository;
     private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     private final ReviewerRepository reviewerRepository;
     private final UserAccountService userAccountService;
-    private final PriorityRepository priorityRepository;
-    private final DescriptionRepository descriptionRepository;
     private final PullRequestMapper pullRequestMapper;
     private final PreparationRedisRepository preparationRedisRepository;
-    private final ReviewRepository reviewRepository;
-    private final ReviewCommentRepository reviewCommentRepository;
-    private final S3Service s3Service;
-    private final PriorityFileRepository priorityFileRepository;
+    private final PullRequestDetailSyncService pullRequestDetailSyncService;
+    private final PullRequestDetailAssembler pullRequestDetailAssembler;
+    private final GithubFanOut githubFanOut;
 
     @Override
     public List<PullRequestResponse> getPullRequests(CustomUserDetail customUserDetail, Long repoId, Integer limit, String cursor) {
@@ -94,27 +91,29 @@ public class PullRequestServiceImpl implements PullRequestService {
 //        Pageable pageable = PageRequest.of(page,size, Sort.by(Sort.Direction.DESC,"githubCreatedAt"));
         List<PullRequest> pullRequests = pullRequestRepository.findSlice(targetRepo.getRepoId(), cUpdated, cId, PageRequest.of(0, pageSize));
 
-        // 3. Pull Request 목록을 DTO로 변환하여 반환
+        // 3. 페이지 전체의 승인 현황을 한 번에 집계해 DTO로 변환하여 반환
+        Map<Long, MergeStatusResult> mergeStatuses = checkMergeStatuses(pullRequests);
         return pullRequests.stream()
-                .map(pullRequest -> {
-                    MergeStatusResult mergeStatus = checkMergeStatus(pullRequest);
-                    return PullRequestResponse.fromEntityAndMergeStatus(pullRequest, mergeStatus);
-                })
+                .map(pullRequest -> PullRequestResponse.fromEntityAndMergeStatus(pullRequest, mergeStatuses.get(pullRequest.getId())))
                 .toList();
     }
 
-    private MergeStatusResult checkMergeStatus(PullRequest pullRequest) {
-        // Reviewer 모두 APPROVED인지 확인
-        List<Reviewer> reviewers = reviewerRepository.findByPullRequest(pullRequest);
-        
-        int approveCount = (int) reviewers.stream()
-                .mapToLong(r -> r.getStatus() == ReviewStatus.APPROVED ? 1 : 0)
-                .sum();
-        
-        boolean allApproved = reviewers.stream()
-                .allMatch(r -> r.getStatus() == ReviewStatus.APPROVED);
-        
-        return new MergeStatusResult(allApproved, approveCount);
+    private Map<Long, MergeStatusResult> checkMergeStatuses(List<PullRequest> pullRequests) {
+        if (pullRequests.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> pullRequestIds = pullRequests.stream()
+                .map(PullRequest::getId)
+                .toList();
+
+        // 리뷰어가 없는 PR 은 모두 승인한 것으로 본다.
+        Map<Long, MergeStatusResult> mergeStatuses = new HashMap<>();
+        pullRequestIds.forEach(id -> mergeStatuses.put(id, new MergeStatusResult(true, 0)));
+        for (ReviewerApprovalCount count : reviewerRepository.countApprovalsByPullRequestIds(pullRequestIds, ReviewStatus.APPROVED)) {
+            mergeStatuses.put(count.getPullRequestId(),
+                    new MergeStatusResult(count.getApprovedCount() == count.getReviewerCount(), (int) count.getApprovedCount()));
+        }
+        return mergeStatuses;
     }
 
     @Override
@@ -146,81 +145,7 @@ public class PullRequestServiceImpl implements PullRequestService {
 
         PullRequestDetailResponse pullRequestDetailResponse = githubApiClient.getPullRequestDetail(prId, repo.getFullName());
 
-        // 리뷰어 추가
-        List<PullRequestReviewerInfo> reviewers = reviewerRepository.findAllByPullRequest(pullRequest)
-                .stream()
-                .map(PullRequestReviewerInfo::fromEntity)
-                .toList();
-
-        // Description 추가
-        List<PullRequestDescriptionInfo> descriptions = descriptionRepository.findAllByPullRequest(pullRequest)
-                .stream()
-                .map(description -> {
-                    String voiceFileUrl = null;
-                    if (description.getRecordKey() != null && !description.getRecordKey().trim().isEmpty()) {
-                        try {
-                            voiceFileUrl = s3Service.generatePresignedUrl(description.getRecordKey(), 60);
-                        } catch (Exception e) {
-                            log.warn("Description 음성 파일 URL 생성 실패 - descriptionId: {}, recordKey: {}", 
-                                description.getId(), description.getRecordKey());
-                        }
-                    }
-                    
-                    return PullRequestDescriptionInfo.builder()
-                            .id(description.getId())
-                            .path(description.getPath())
-                            .body(description.getBody())
-                            .recordKey(description.getRecordKey())
-                            .position(description.getPosition())
-                            .startLine(description.getStartLine())
-                            .startSide(description.getStartSide())
-                            .line(description.getLine())
-                            .side(description.getSide())
-                            .diffHunk(description.getDiffHunk())
-                            .voiceFileUrl(voiceFileUrl)
-                            .build();
-                })
-                .toList();
-
-        // Review 추가
-        List<PullRequestReviewInfo> reviews = reviewRepository.findAllByPullRequest(pullRequest)
-                .stream()
-                .map(review -> {
-                    List<PullRequestReviewCommentInfo> reviewComments = reviewCommentRepository.findAllByReview(review)
-                            .stream()
-                            .map(reviewComment -> {
-                                String voiceFileUrl = null;
-                                if (reviewComment.getRecordKey() != null) {
-                                    try {
-                                        voiceFileUrl = s3Service.generatePresignedUrl(reviewComment.getRecordKey(), 60);
-                                    } catch (Exception e) {
-                                        // URL 생성 실패 시 null 처리
-                                        log.debug("음성 파일 URL 생성 실패: null 반환 {}", e.getMessage());
-                                    }
-                                }
-                                return PullRequestReviewCommentInfo.fromEntity(reviewComment, voiceFileUrl);
-                            })
-                            .toList();
-                    return PullRequestReviewInfo.fromEntityAndReviewComment(review, reviewComments);
-                })
-                .toList();
-
-        // 우선순위 추가
-        List<PullRequestPriorityInfo> priorities = priorityRepository.findAllByPullRequest(pullRequest)
-                .stream()
-                .map(priority -> {
-                    List<PriorityFile> allByPriority = priorityFileRepository.findAllByPriority(priority);
-                    List<String> relatedFiles = allByPriority.stream()
-                            .map(PriorityFile::getFileName)
-                            .toList();
-                    return PullRequestPriorityInfo.fromEntityAndFiles(priority, relatedFiles);
-                })
-                .toList();
-
-        pullRequestDetailResponse.enrollDescription(descriptions);
-        pullRequestDetailResponse.enrollReviewers(reviewers);
-        pullRequestDetailResponse.enrollReview(reviews);
-        pullRequestDetailResponse.enrollPriorities(priorities);
+        pullRequestDetailAssembler.enroll(pullRequestDetailResponse, pullRequest.getId());
 
         return pullRequestDetailResponse;
     }
@@ -295,57 +220,36 @@ public class PullRequestServiceImpl implements PullRequestService {
     public void createPullRequestFromGithub(List<GHRepository> githubRepositories) {
 
         try {
-            //6. Repo 별 PR 생성
+            // 1. repositoryId로 Repo 엔티티를 조회한다.
+            List<Repo> targetRepos = new ArrayList<>(githubRepositories.size());
             for (GHRepository repo : githubRepositories) {
                 log.debug("Repo ID: {}, Full Name: {}, Private: {}",
                         repo.getId(), repo.getFullName(), repo.isPrivate());
+                targetRepos.add(repoRepository.findByRepoId(repo.getId())
+                        .orElseThrow(() -> new BusinessException(RepoErrorCode.REPO_NOT_FOUND)));
+            }
+            if (targetRepos.isEmpty()) {
+                return;
+            }
 
-                List<GithubPrResponse> githubPrResponses = repo.queryPullRequests()
-                        .state(GHIssueState.OPEN)
-                        .list()
-                        .toList()
-                        .stream()
-                        .map(GithubPrResponse::from)
-                        .toList();
-
-                // 1. repositoryId로 Repo 엔티티를 조회한다.
-                Repo targetRepo = repoRepository.findByRepoId(repo.getId())
-                        .orElseThrow(() -> new BusinessException(RepoErrorCode.REPO_NOT_FOUND));
-
-                // 2. GitHub PR 응답을 PullRequest 엔티티로 변환
-                List<PullRequest> newPullRequests = new ArrayList<>();
-                List<Reviewer> newReviewers = new ArrayList<>();
-                for (GithubPrResponse githubPr : githubPrResponses) {
-
-                    User author = userRepository.findByGithubId(githubPr.getAuthor()
-                                    .getId())
-                            .orElseGet(() -> registerUser(githubPr.getAuthor()));
-
-                    PullRequest pullRequest = pullRequestMapper.githubPrResponseToEntity(githubPr, author, targetRepo);
-
-                    List<GHUser> users = githubPr.getRequestedReviewers();
-                    for (GHUser user : users) {
-                        User reviewer = userRepository.findByGithubId(user
-                                        .getId())
-                                .orElseGet(() -> registerUser(user));
-
-                        newReviewers.add(
-                                Reviewer.builder()
-                                        .pullRequest(pullRequest)
-                                        .user(reviewer)
-                                        .status(ReviewStatus.NONE)
-                                        .build());
-                    }
-                    if(pullRequestRepository.existsByGithubId(pullRequest.getGithubId())){
-                        continue;
-                    }
-                    newPullRequests.add(pullRequest);
-                }
+            // 열린 PR 목록 (GraphQL 스냅샷, 실패 시 REST) 은 저장소 전체를 병렬로 가져온다.
+            Long installationId = targetRepos.get(0)
+                    .getAccount()
+                    .getInstallationId();
+            List<List<GithubPrResponse>> pullRequestsByRepo = githubFanOut.map(installationId, targetRepos,
+                    targetRepo -> githubApiClient.getPullRequests(installationId, targetRepo.getFullName()));
 
-                if (!newPullRequests.isEmpty()) {
-                    pullRequestRepository.saveAll(newPullRequests);
-                    reviewerRepository.saveAll(newReviewers);
-                }
+            //6. Repo 별 PR 생성
+            for (int repoIndex = 0; repoIndex < targetRepos.size(); repoIndex++) {
+                Repo targetRepo = targetRepos.get(repoIndex);
+                List<GithubPrResponse> githubPrResponses = pullRequestsByRepo.get(repoIndex);
+
+                List<Long> detailPendingIds = saveNewPullRequests(targetRepo, githubPrResponses);
+                // 이후 동기화는 여기서 본 가장 늦은 수정일시 이후에 바뀐 PR 만 조회한다.
+                targetRepo.markPullRequestSynced(latestUpdatedAt(githubPrResponses));
+
+                // 목록 응답만으로 저장한 PR 은 개수/머지 가능 여부를 백그라운드에서 한꺼번에 채운다.
+                pullRequestDetailSyncService.fillDetailsAfterCommit(installationId, targetRepo.getFullName(), detailPendingIds);
             }
         } catch (Exception e) {
             throw new BusinessException(PullRequestErrorCode.PR_CREATE_FAILED);
@@ -353,23 +257,105 @@ public class PullRequestServiceImpl implements PullRequestService {
 
     }
 
-    private User registerUser(GHUser ghUser) {
-        try {
-            User user = User.builder()
-                    .githubId(ghUser.getId())
-                    .githubUsername(ghUser.getLogin())
-                    .githubEmail(ghUser.getEmail() != null ? ghUser.getEmail() : null)
-                    .type(ghUser.getType())
-                    .profileImageUrl(ghUser.getAvatarUrl() != null ? ghUser.getAvatarUrl()
-                            .toString() : null)
-                    .rewardPoints(0)
-                    .userGrade("BASIC")
-                    .build();
-
-            return userRepository.save(user);
-        } catch (Exception e) {
-            throw new BusinessException(UserErrorCode.USER_REGISTRATION_FAILED);
+    @Override
+    @Transactional
+    public void reconcilePullRequests(Long installationId, Repo repo, List<GithubPrResponse> changedPullRequests) {
+        if (changedPullRequests.isEmpty()) {
+            return;
         }
+
+        Map<Long, PullRequest> existing = pullRequestRepository.findAllByGithubIdIn(changedPullRequests.stream()
+                        .map(GithubPrResponse::getGithubId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(PullRequest::getGithubId, Function.identity(), (a, b) -> a));
+
+        List<Long> detailPendingIds = new ArrayList<>();
+        for (GithubPrResponse githubPr : changedPullRequests) {
+            PullRequest pullRequest = existing.get(githubPr.getGithubId());
+            if (pullRequest == null) {
+                continue;
+            }
+            boolean headChanged = !Objects.equals(pullRequest.getCommitSha(), githubPr.getCommitSha());
+            pullRequest.syncFromGithub(githubPr);
+            if (headChanged && !githubPr.hasDetail()) {
+                detailPendingIds.add(pullRequest.getId());
+            }
+        }
+
+        // DB 에 없는 PR 중 열린 PR 만 새로 저장한다. (처음 동기화와 같은 기준)
+        List<GithubPrResponse> openPullRequests = changedPullRequests.stream()
+                .filter(githubPr -> !existing.containsKey(githubPr.getGithubId()))
+                .filter(githubPr -> PrState.fromGithubState(githubPr.getState(), githubPr.getMerged()) == PrState.OPEN)
+                .toList();
+        detailPendingIds.addAll(saveNewPullRequests(repo, openPullRequests));
+
+        repo.markPullRequestSynced(latestUpdatedAt(changedPullRequests));
+        pullRequestDetailSyncService.fillDetailsAfterCommit(installationId, repo.getFullName(), detailPendingIds);
+        log.debug("PR 동기화: repo={}, changed={}, created={}", repo.getFullName(), changedPullRequests.size(), openPullRequests.size());
+    }
+
+    /**
+     * DB 에 없는 PR 과 요청된 리뷰어를 저장하고, 상세 값을 나중에 채워야 하는 PR 의 id 를 돌려준다.
+     */
+    private List<Long> saveNewPullRequests(Repo targetRepo, List<GithubPrResponse> githubPrResponses) {
+        Set<Long> existingGithubIds = pullRequestRepository.findAllByGithubIdIn(githubPrResponses.stream()
+                        .map(GithubPrResponse::getGithubId)
+                        .toList())
+                .stream()
+                .map(PullRequest::getGithubId)
+                .collect(Collectors.toSet());
+
+        // 2. GitHub PR 응답을 PullRequest 엔티티로 변환
+        List<GithubPrResponse> pendingPullRequests = githubPrResponses.stream()
+                // 탈퇴한 사용자가 작성한 PR 은 작성자 정보가 없다.
+                .filter(githubPr -> githubPr.getAuthor() != null && !existingGithubIds.contains(githubPr.getGithubId()))
+                .toList();
+        // 작성자와 리뷰어는 PR 마다 조회하지 않고 한 번에 찾거나 만든다.
+        Map<Long, User> users = userIdentityResolver.resolveAll(pendingPullRequests.stream()
+                .flatMap(githubPr -> Stream.concat(Stream.of(githubPr.getAuthor()), githubPr.getRequestedReviewers()
+                        .stream()))
+                .toList());
+
+        List<PullRequest> newPullRequests = new ArrayList<>();
+        List<PullRequest> detailPendingPullRequests = new ArrayList<>();
+        List<Reviewer> newReviewers = new ArrayList<>();
+        for (GithubPrResponse githubPr : pendingPullRequests) {
+            User author = users.get(githubPr.getAuthor()
+                    .getId());
+
+            PullRequest pullRequest = pullRequestMapper.githubPrResponseToEntity(githubPr, author, targetRepo);
+
+            List<GithubUserResponse> reviewers = githubPr.getRequestedReviewers();
+            for (GithubUserResponse reviewer : reviewers) {
+                newReviewers.add(
+                        Reviewer.builder()
+                                .pullRequest(pullRequest)
+                                .user(users.get(reviewer.getId()))
+                                .status(ReviewStatus.NONE)
+                                .build());
+            }
+            newPullRequests.add(pullRequest);
+            if (!githubPr.hasDetail()) {
+                detailPendingPullRequests.add(pullRequest);
+            }
+        }
+
+        if (!newPullRequests.isEmpty()) {
+            pullRequestRepository.saveAll(newPullRequests);
+            reviewerRepository.saveAll(newReviewers);
+        }
+        return detailPendingPullRequests.stream()
+                .map(PullRequest::getId)
+                .toList();
+    }
+
+    private LocalDateTime latestUpdatedAt(List<GithubPrResponse> githubPrResponses) {
+        return githubPrResponses.stream()
+                .map(GithubPrResponse::getGithubUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
     }
 
     private User getUserFromUserInfo(PrUserInfo prUserInfo) {
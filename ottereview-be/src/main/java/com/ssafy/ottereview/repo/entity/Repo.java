@@ -10,6 +10,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -47,6 +49,14 @@ public class Repo extends BaseEntity {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Account account;
 
+    // 마지막 동기화에서 확인한 PR 의 GitHub 수정일시 중 가장 늦은 값 (이후에 바뀐 PR 만 다시 조회한다)
+    @Column(name = "pull_request_synced_at")
+    private LocalDateTime pullRequestSyncedAt;
+
+    // 마지막으로 브랜치를 동기화했을 때의 저장소 pushed_at
+    @Column(name = "branch_pushed_at")
+    private Instant branchPushedAt;
+
     public Repo(Long repoId, String fullName, Account account, boolean isCushion,
             boolean isPrivate) {
         this.repoId = repoId;
@@ -67,4 +77,14 @@ public class Repo extends BaseEntity {
     public void changeOpenType(boolean isPrivate) {
         this.isPrivate = isPrivate;
     }
+
+    public void markPullRequestSynced(LocalDateTime syncedAt) {
+        if (syncedAt != null && (pullRequestSyncedAt == null || syncedAt.isAfter(pullRequestSyncedAt))) {
+            this.pullRequestSyncedAt = syncedAt;
+        }
+    }
+
+    public void markBranchSynced(Instant pushedAt) {
+        this.branchPushedAt = pushedAt;
+    }
 }
@@ -0,0 +1,280 @@
+package com.ssafy.ottereview.repo.service;
+
+import com.ssafy.ottereview.account.entity.Account;
+import com.ssafy.ottereview.account.repository.AccountRepository;
+import com.ssafy.ottereview.branch.service.BranchService;
+import com.ssafy.ottereview.githubapp.client.GithubApiClient;
+import com.ssafy.ottereview.githubapp.client.GithubFanOut;
+import com.ssafy.ottereview.githubapp.client.GithubRateLimitTracker;
+import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.githubapp.service.InstallationOnboardingService;
+import com.ssafy.ottereview.pullrequest.service.PullRequestService;
+import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.repo.repository.RepoRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.GHRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 저장소 별 high-water mark(마지막으로 본 PR 수정일시, 브랜치 동기화 시점의 pushed_at) 이후에 바뀐 PR 과 브랜치만 GitHub 에서 가져와 DB 와 맞춘다.
+ * <p>
+ * 주기적으로, 그리고 installation 이벤트를 받은 뒤에 실행되어 놓친 webhook 으로 생긴 차이를 메운다. 바뀐 것이 없으면 저장소 목록 조회와 저장소 별 PR 목록 첫 페이지 한 번만 호출한다.
+ * <p>
+ * 여러 인스턴스가 떠 있어도 주기 실행은 Redis lease 를 잡은 한 인스턴스만 하고, account 별 동기화도 Redis lock 으로 한 곳에서만 실행한다. Redis 가 응답하지 않으면 로컬 기준으로만 막는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RepoReconcileService {
+
+    // PR 응답의 수정일시는 GithubPrResponse 에서 서울 시간으로 변환된다.
+    private static final ZoneId GITHUB_TIME_ZONE = ZoneId.of("Asia/Seoul");
+    // GitHub 목록의 정렬 반영이 늦을 수 있어 high-water mark 보다 조금 앞에서부터 다시 본다.
+    private static final Duration HIGH_WATER_MARK_OVERLAP = Duration.ofMinutes(1);
+    private static final String CYCLE_LOCK_KEY = "github:reconcile:cycle";
+    private static final String ACCOUNT_LOCK_PREFIX = "github:reconcile:account:";
+    // 값이 자신의 token 일 때만 지운다. (lock 이 만료되어 다른 인스턴스가 잡은 경우 건드리지 않는다)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final AccountRepository accountRepository;
+    private final RepoRepository repoRepository;
+    private final RepoService repoService;
+    private final BranchService branchService;
+    private final PullRequestService pullRequestService;
+    private final GithubApiClient githubApiClient;
+    private final GithubFanOut githubFanOut;
+    private final GithubRateLimitTracker githubRateLimitTracker;
+    private final InstallationOnboardingService installationOnboardingService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor githubReconcileExecutor;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 동기화 중인 account (주기 실행과 이벤트 실행이 겹치지 않게 한다)
+    private final Set<Long> runningAccounts = ConcurrentHashMap.newKeySet();
+    // 동기화 중에 다시 요청된 account (끝난 뒤 한 번 더 실행해 그 사이의 변경을 놓치지 않는다)
+    private final Set<Long> rerunAccounts = ConcurrentHashMap.newKeySet();
+
+    @Value("${github.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${github.reconcile.interval-ms:600000}")
+    private long intervalMillis;
+
+    // rate limit 대기를 포함한 account 동기화 최대 시간보다 길게 잡는다.
+    @Value("${github.reconcile.account-lock-minutes:60}")
+    private long accountLockMinutes;
+
+    /**
+     * 스케줄러 스레드는 다른 주기 작업(웹훅 재처리 등)과 공유하므로, account 별 동기화는 reconcile 실행기에 넘기고 바로 반환한다.
+     */
+    @Scheduled(initialDelayString = "${github.reconcile.initial-delay-ms:60000}", fixedDelayString = "${github.reconcile.interval-ms:600000}")
+    public void reconcileAll() {
+        if (!enabled) {
+            return;
+        }
+        // 이번 주기는 다른 인스턴스가 맡았다. lease 는 주기보다 조금 짧게 잡아 다음 주기에는 다시 잡을 수 있게 한다.
+        if (!tryLock(CYCLE_LOCK_KEY, UUID.randomUUID()
+                .toString(), Duration.ofMillis(Math.max(1000, intervalMillis - 1000)))) {
+            log.debug("다른 인스턴스가 이번 주기 저장소 동기화를 실행 중");
+            return;
+        }
+        for (Account account : accountRepository.findAll()) {
+            submitReconcile(account.getId());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 account 의 동기화를 백그라운드에서 실행한다.
+     */
+    public void requestReconcile(Long accountId) {
+        if (!enabled) {
+            return;
+        }
+        Runnable task = () -> submitReconcile(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void submitReconcile(Long accountId) {
+        githubReconcileExecutor.execute(() -> reconcileAccount(accountId));
+    }
+
+    public void reconcileAccount(Long accountId) {
+        if (!runningAccounts.add(accountId)) {
+            log.debug("이미 동기화 중인 account, 끝난 뒤 다시 실행: {}", accountId);
+            rerunAccounts.add(accountId);
+            return;
+        }
+        String lockKey = ACCOUNT_LOCK_PREFIX + accountId;
+        String token = UUID.randomUUID()
+                .toString();
+        try {
+            if (!tryLock(lockKey, token, Duration.ofMinutes(accountLockMinutes))) {
+                log.debug("다른 인스턴스에서 동기화 중인 account: {}", accountId);
+                return;
+            }
+            try {
+                githubRateLimitTracker.runInBackground(() -> reconcile(accountId));
+            } finally {
+                unlock(lockKey, token);
+            }
+        } catch (Exception e) {
+            log.warn("저장소 증분 동기화 실패: accountId={}, message={}", accountId, e.getMessage());
+        } finally {
+            runningAccounts.remove(accountId);
+            if (rerunAccounts.remove(accountId)) {
+                submitReconcile(accountId);
+            }
+        }
+    }
+
+    private boolean tryLock(String key, String token, Duration ttl) {
+        try {
+            return !Boolean.FALSE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(key, token, ttl));
+        } catch (DataAccessException e) {
+            log.warn("저장소 동기화 lock 획득 실패, 로컬 기준으로 실행: key={}, message={}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    private void unlock(String key, String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+        } catch (DataAccessException e) {
+            log.warn("저장소 동기화 lock 해제 실패, 만료 시 해제됨: key={}, message={}", key, e.getMessage());
+        }
+    }
+
+    private void reconcile(Long accountId) {
+        Account account = accountRepository.findById(accountId)
+                .orElse(null);
+        if (account == null) {
+            return;
+        }
+        Long installationId = account.getInstallationId();
+        if (installationOnboardingService.isInProgress(installationId)) {
+            // 설치 작업이 저장소/브랜치/PR 을 가져오는 중이다. 같이 가져오면 같은 행이 중복 저장될 수 있으므로 끝난 뒤 다음 주기에 맞춘다.
+            log.debug("설치 작업 진행 중인 account 동기화 건너뜀: accountId={}", accountId);
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now(GITHUB_TIME_ZONE);
+
+        // 1. 저장소 목록: 놓친 installation_repositories 이벤트를 보정한다.
+        List<GHRepository> remoteRepositories = githubApiClient.getRepositories(installationId);
+        Set<Long> remoteIds = remoteRepositories.stream()
+                .map(GHRepository::getId)
+                .collect(Collectors.toSet());
+        Set<Long> localIds = new HashSet<>(repoRepository.findRepoIdsByAccountId(accountId));
+        if (!localIds.containsAll(remoteIds)) {
+            // 새 저장소는 브랜치/PR 까지 처음부터 동기화한다.
+            repoService.updateRepoList(remoteRepositories, account);
+        }
+        if (!remoteIds.containsAll(localIds)) {
+            repoService.deleteRepoList(remoteIds, localIds, account);
+        }
+
+        // 2. 기존 저장소: high-water mark 이후에 바뀐 PR 만 병렬로 가져온다.
+        Map<Long, Repo> reposByGithubId = repoRepository.findAllByAccount_Id(accountId)
+                .stream()
+                .collect(Collectors.toMap(Repo::getRepoId, Function.identity()));
+        List<GHRepository> targets = remoteRepositories.stream()
+                .filter(repository -> localIds.contains(repository.getId()) && reposByGithubId.containsKey(repository.getId()))
+                .toList();
+        List<List<GithubPrResponse>> changedByRepo = githubFanOut.map(installationId, targets,
+                repository -> fetchChangedPullRequests(installationId, repository, reposByGithubId.get(repository.getId())));
+
+        // 3. 저장소 단위로 DB 에 반영한다. 실패한 저장소는 high-water mark 가 그대로라 다음 주기에 다시 시도된다.
+        int changedRepos = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            GHRepository repository = targets.get(i);
+            List<GithubPrResponse> changed = changedByRepo.get(i);
+            if (changed == null) {
+                continue;
+            }
+            Repo repo = reposByGithubId.get(repository.getId());
+            boolean branchesChanged = !Objects.equals(repo.getBranchPushedAt(), repository.getPushedAt());
+            if (changed.isEmpty() && !branchesChanged && repo.getPullRequestSyncedAt() != null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(installationId, repo.getId(), repository, changed, branchesChanged, startedAt));
+                changedRepos++;
+            } catch (DataIntegrityViolationException e) {
+                // 웹훅이 같은 PR 을 먼저 저장했다. high-water mark 가 그대로라 다음 주기에 기존 PR 로 갱신된다.
+                log.info("웹훅과 동시에 저장된 PR, 다음 주기에 다시 맞춤: repo={}", repository.getFullName());
+            } catch (Exception e) {
+                log.warn("저장소 증분 동기화 실패: repo={}, message={}", repository.getFullName(), e.getMessage());
+            }
+        }
+        log.debug("저장소 증분 동기화 완료: accountId={}, repos={}, changed={}", accountId, targets.size(), changedRepos);
+    }
+
+    private List<GithubPrResponse> fetchChangedPullRequests(Long installationId, GHRepository repository, Repo repo) {
+        try {
+            LocalDateTime syncedAt = repo.getPullRequestSyncedAt();
+            if (syncedAt == null) {
+                // 처음 보는 저장소(이 기능 이전에 저장된 저장소 포함)는 열린 PR 만 맞춘다.
+                return githubApiClient.getPullRequests(installationId, repository.getFullName());
+            }
+            return githubApiClient.getPullRequestsUpdatedSince(repository, syncedAt.minus(HIGH_WATER_MARK_OVERLAP));
+        } catch (Exception e) {
+            log.warn("변경된 PR 조회 실패: repo={}, message={}", repository.getFullName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void apply(Long installationId, Long repoId, GHRepository repository, List<GithubPrResponse> changed, boolean branchesChanged,
+            LocalDateTime startedAt) {
+        Repo repo = repoRepository.findById(repoId)
+                .orElse(null);
+        if (repo == null) {
+            return;
+        }
+
+        pullRequestService.reconcilePullRequests(installationId, repo, changed);
+        if (repo.getPullRequestSyncedAt() == null) {
+            repo.markPullRequestSynced(startedAt);
+        }
+
+        if (branchesChanged) {
+            Instant pushedAt = repository.getPushedAt();
+            branchService.reconcileBranches(installationId, repo, repository);
+            repo.markBranchSynced(pushedAt);
+        }
+    }
+}
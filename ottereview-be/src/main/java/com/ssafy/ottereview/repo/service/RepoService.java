@@ -62,4 +62,16 @@ public interface RepoService {
     public List<RepoResponse> getReposByUserId(User user);
 
     public void updateRepoList(List<GHRepository> repoMap, Account account);
+
+    /***
+     * DB 에 없는 저장소만 저장한다. 브랜치/PR 은 importRepository 로 저장소마다 따로 가져온다.
+     * 성격 : Create
+     */
+    public int registerRepositories(List<GHRepository> repositories, Account account);
+
+    /***
+     * 저장된 저장소 하나의 브랜치와 열린 PR 을 가져온다. 다시 실행해도 이미 저장된 것은 건너뛴다.
+     * 성격 : Create
+     */
+    public void importRepository(Long installationId, GHRepository repository);
 }
@@ -19,6 +19,7 @@ import com.ssafy.ottereview.repo.repository.RepoRepository;
 import com.ssafy.ottereview.user.entity.User;
 import jakarta.persistence.EntityNotFoundException;
 
+import java.time.Instant;
 import java.util.*;
 
 import lombok.RequiredArgsConstructor;
@@ -210,17 +211,11 @@ public class RepoServiceImpl implements RepoService {
         }
         try {
             // Version 2 -> 처음 App에 install할때
-            List<Branch> branchesToSave = new ArrayList<>();
-            List<Repo> repoList = repoMap.stream().map(r -> {
-                try {
-                    Repo repo = Repo.builder().repoId(r.getId()).fullName(r.getFullName()).isPrivate(r.isPrivate()).account(account).build();
-                    branchesToSave.addAll(branchService.createBranchList(r, repo));
-                    return repo;
-                }catch(Exception e){
-                    log.error("Error processing repository: {}", r.getFullName(), e);
-                    throw new BusinessException(RepoErrorCode.REPO_PROCESSING_ERROR);
-                }
-            }).toList();
+            List<Repo> repoList = repoMap.stream()
+                    .map(r -> toRepo(r, account))
+                    .toList();
+            // 브랜치는 저장소 전체를 대상으로 병렬 조회한다.
+            List<Branch> branchesToSave = branchService.createBranchLists(account.getInstallationId(), repoMap, toRepoIndex(repoList));
 
             // repoList 저장
             repoRepository.saveAll(repoList);
@@ -253,30 +248,25 @@ public class RepoServiceImpl implements RepoService {
             return;
         }
         try {
-            List<Branch> branchesToSave = new ArrayList<>();
             // repoId를 accountId를 토대로 List를 가져온다.
             List<Long> dbRepoList = repoRepository.findRepoIdsByAccountId(account.getId());
             Set<Long> dbRepoSet = new HashSet<>(dbRepoList);
             // 추가할때 원래 있던 레포지토리가 있으면 제외하고 List에 담는다.
-            List<Repo> repoList = repoMap.stream()
-                    .filter(id -> !dbRepoSet.contains(id.getId()))
-                    .map(r -> {
-                        try {
-                            Repo repo = Repo.builder().repoId(r.getId()).fullName(r.getFullName()).isPrivate(r.isPrivate()).account(account).build();
-                            branchesToSave.addAll(branchService.createBranchList(r, repo));
-                            return repo;
-                        }catch(Exception e){
-                            log.error("Error processing repository update: {}", r.getFullName(), e);
-                            throw new BusinessException(RepoErrorCode.REPO_PROCESSING_ERROR);
-                        }
-                    }).toList();
+            List<GHRepository> newRepositories = repoMap.stream()
+                    .filter(r -> !dbRepoSet.contains(r.getId()))
+                    .toList();
+            List<Repo> repoList = newRepositories.stream()
+                    .map(r -> toRepo(r, account))
+                    .toList();
+            List<Branch> branchesToSave = branchService.createBranchLists(account.getInstallationId(), newRepositories,
+                    toRepoIndex(repoList));
             // repoList 저장
             if (!repoList.isEmpty()) {
                 repoRepository.saveAll(repoList);
                 // branchList 저장
                 branchService.saveAllBranchList(branchesToSave);
-                // pullRequestList 저장
-                pullRequestService.createPullRequestFromGithub(repoMap);
+                // pullRequestList 저장 (이미 있던 저장소는 증분 동기화가 맡는다)
+                pullRequestService.createPullRequestFromGithub(newRepositories);
 
                 log.debug("Successfully updated {} new repositories", repoList.size());
             }else{
@@ -295,6 +285,58 @@ public class RepoServiceImpl implements RepoService {
     }
 
 
+    @Override
+    @Transactional
+    public int registerRepositories(List<GHRepository> repositories, Account account) {
+        Set<Long> dbRepoSet = new HashSet<>(repoRepository.findRepoIdsByAccountId(account.getId()));
+        List<Repo> newRepos = repositories.stream()
+                .filter(r -> !dbRepoSet.contains(r.getId()))
+                // 브랜치는 아직 가져오지 않았으므로 pushed_at 을 비워둔다.
+                .map(r -> toRepo(r, account, false))
+                .toList();
+        repoRepository.saveAll(newRepos);
+        return newRepos.size();
+    }
+
+    @Override
+    @Transactional
+    public void importRepository(Long installationId, GHRepository repository) {
+        Repo repo = repoRepository.findByRepoId(repository.getId())
+                .orElseThrow(() -> new BusinessException(RepoErrorCode.REPO_NOT_FOUND));
+
+        // 중간에 실패해 다시 실행되어도 이미 저장된 브랜치/PR 은 건너뛴다.
+        Instant pushedAt = repository.getPushedAt();
+        branchService.reconcileBranches(installationId, repo, repository);
+        repo.markBranchSynced(pushedAt);
+        pullRequestService.createPullRequestFromGithub(List.of(repository));
+    }
+
+    private Repo toRepo(GHRepository repository, Account account) {
+        return toRepo(repository, account, true);
+    }
+
+    private Repo toRepo(GHRepository repository, Account account, boolean withBranches) {
+        try {
+            return Repo.builder()
+                    .repoId(repository.getId())
+                    .fullName(repository.getFullName())
+                    .isPrivate(repository.isPrivate())
+                    .account(account)
+                    // 브랜치는 함께 저장하므로 증분 동기화는 이 시점 이후의 push 만 본다.
+                    .branchPushedAt(withBranches ? repository.getPushedAt() : null)
+                    .build();
+        } catch (Exception e) {
+            log.error("Error processing repository: {}", repository.getFullName(), e);
+            throw new BusinessException(RepoErrorCode.REPO_PROCESSING_ERROR);
+        }
+    }
+
+    private Map<Long, Repo> toRepoIndex(List<Repo> repos) {
+        Map<Long, Repo> index = new HashMap<>();
+        repos.forEach(repo -> index.put(repo.getRepoId(), repo));
+        return index;
+    }
+
     @Override
     @Transactional
     public void deleteRepoList(Set<Long> remoteSet, Set<Long> dbRepoSet, Account account) {
@@ -2,6 +2,7 @@ package com.ssafy.ottereview.review.controller;
 
 import com.ssafy.ottereview.account.repository.AccountRepository;
 import com.ssafy.ottereview.common.annotation.MvcController;
+import com.ssafy.ottereview.githubapp.client.GithubRestClient;
 import com.ssafy.ottereview.githubapp.util.GithubAppUtil;
 import com.ssafy.ottereview.repo.repository.RepoRepository;
 import com.ssafy.ottereview.user.entity.CustomUserDetail;
@@ -17,13 +18,10 @@ import org.kohsuke.github.GHPullRequestReviewComment;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GHUser;
 import org.kohsuke.github.GitHub;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
 
 @RestController
 @RequestMapping("/api/{account-id}/{repo-id}/{pr-id}")
@@ -33,6 +31,7 @@ import org.springframework.web.client.RestTemplate;
 public class ReviewTestController {
 
     private final GithubAppUtil githubAppUtil;
+    private final GithubRestClient githubRestClient;
     private final RepoRepository repoRepository;
     private final AccountRepository accountRepository;
 
@@ -57,15 +56,14 @@ public class ReviewTestController {
             Long installationId = accountRepository.findById(accountId)
                     .orElseThrow(() -> new RuntimeException("Account not found"))
                     .getInstallationId();
-            String token = githubAppUtil.getInstallationToken(installationId);
 
             // 레포지토리 전체 이름 조회
             String repoFullName = repoRepository.findById(repoId)
                     .orElseThrow(() -> new RuntimeException("Repository not found"))
                     .getFullName();
 
-            // 3. REST API URL
-            String url = String.format("https://api.github.com/repos/%s/pulls/%d/reviews", repoFullName, prId);
+            // 3. REST API 경로
+            String path = String.format("/repos/%s/pulls/%d/reviews", repoFullName, prId);
 
             // 4. 요청 바디 (테스트용 하드코딩)
             Map<String, Object> requestBody = Map.of(
@@ -88,15 +86,8 @@ public class ReviewTestController {
             );
 
 
-            // 5. HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBearerAuth(token);
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // 요청 전송
-            RestTemplate restTemplate = new RestTemplate();
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
+            // 5. 요청 전송 (installation 토큰, 공용 커넥션 풀, rate limit 추적 적용)
+            githubRestClient.exchange(installationId, HttpMethod.POST, path, requestBody, String.class);
 
             // 생성 후 PR 리뷰 정보 반환
             GitHub github = githubAppUtil.getGitHub(installationId);
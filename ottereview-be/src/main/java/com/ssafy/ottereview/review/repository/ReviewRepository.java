@@ -27,4 +27,8 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Optional<Review> findByGithubId(Long githubId);
 
     List<Review> findAllByPullRequest(PullRequest pullRequest);
+
+    // PR 상세 조립용: 작성자까지 한 번에 조회 (작성자가 없는 리뷰도 포함)
+    @Query("SELECT r FROM Review r LEFT JOIN FETCH r.user WHERE r.pullRequest.id = :pullRequestId ORDER BY r.id")
+    List<Review> findAllWithUserByPullRequestId(@Param("pullRequestId") Long pullRequestId);
 }
@@ -2,17 +2,16 @@ package com.ssafy.ottereview.review.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssafy.ottereview.githubapp.util.GithubAppUtil;
+import com.ssafy.ottereview.githubapp.client.GithubRestClient;
 import com.ssafy.ottereview.review.dto.GithubReviewResponse;
 import com.ssafy.ottereview.review.entity.ReviewState;
 import com.ssafy.ottereview.reviewcomment.dto.ReviewCommentCreateRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.*;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -33,8 +32,8 @@ public class ReviewGithubServiceImpl implements ReviewGithubService {
             **👀 Reviewer: @%s**
             %s
             """;
-    private final GithubAppUtil githubAppUtil;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GithubRestClient githubRestClient;
+    private final ObjectMapper objectMapper;
 
     @Override
     public GithubReviewResponse createReviewOnGithub(
@@ -47,16 +46,13 @@ public class ReviewGithubServiceImpl implements ReviewGithubService {
             String githubUsername
     ) {
         try {
-            String token = githubAppUtil.getInstallationToken(installationId);
-            HttpHeaders headers = createAuthHeaders(token);
-
             // GitHub Review 생성 요청
-            String reviewUrl = String.format("https://api.github.com/repos/%s/pulls/%d/reviews", repoFullName, githubPrNumber);
+            String reviewPath = String.format("/repos/%s/pulls/%d/reviews", repoFullName, githubPrNumber);
             Map<String, Object> requestBody = createReviewRequestBody(body, ReviewState.COMMENT, reviewComments, githubUsername);
-            Long reviewId = postReview(reviewUrl, requestBody, headers);
+            Long reviewId = postReview(installationId, reviewPath, requestBody);
 
             // 해당 리뷰 코멘트들 조회
-            List<JsonNode> reviewCommentNodes = fetchReviewComments(repoFullName, githubPrNumber, headers);
+            List<JsonNode> reviewCommentNodes = fetchReviewComments(installationId, repoFullName, githubPrNumber);
             return parseGithubReviewResponse(reviewId, reviewCommentNodes);
 
         } catch (Exception e) {
@@ -68,13 +64,10 @@ public class ReviewGithubServiceImpl implements ReviewGithubService {
     @Override
     public void updateReviewCommentOnGithub(Long installationId, String repoFullName, Long githubId, String newBody, String githubUsername) {
         try {
-            String token = githubAppUtil.getInstallationToken(installationId);
-            HttpHeaders headers = createAuthHeaders(token);
-            String url = String.format("https://api.github.com/repos/%s/pulls/comments/%d", repoFullName, githubId);
+            String path = String.format("/repos/%s/pulls/comments/%d", repoFullName, githubId);
 
             Map<String, Object> requestBody = Map.of("body", COMMENT_TEMPLATE.formatted(githubUsername, newBody));
-            RestTemplate restTemplate = createPatchRestTemplate();
-            restTemplate.exchange(url, HttpMethod.PATCH, new HttpEntity<>(requestBody, headers), String.class);
+            githubRestClient.exchange(installationId, HttpMethod.PATCH, path, requestBody, String.class);
 
         } catch (HttpStatusCodeException e) {
             log.error("PATCH failed: status={}, body={}", e.getStatusCode(), e.getResponseBodyAsString());
@@ -85,16 +78,12 @@ public class ReviewGithubServiceImpl implements ReviewGithubService {
     @Override
     public void deleteReviewCommentOnGithub(Long installationId, String repoFullName, Long commentId) {
         try {
-            String url = String.format(
-                    "https://api.github.com/repos/%s/pulls/comments/%d",
+            String path = String.format(
+                    "/repos/%s/pulls/comments/%d",
                     repoFullName, commentId
             );
 
-            String token = githubAppUtil.getInstallationToken(installationId);
-            HttpHeaders headers = createAuthHeaders(token);
-
-            RestTemplate restTemplate = new RestTemplate();
-            restTemplate.exchange(url, HttpMethod.DELETE, new HttpEntity<>(headers), String.class);
+            githubRestClient.exchange(installationId, HttpMethod.DELETE, path, null, String.class);
 
         } catch (HttpStatusCodeException e) {
             log.error("DELETE Review Comment failed: status={}, body={}", e.getStatusCode(), e.getResponseBodyAsString());
@@ -102,13 +91,6 @@ public class ReviewGithubServiceImpl implements ReviewGithubService {
         }
     }
 
-    private HttpHeaders createAuthHeaders(String token) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(token);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        return headers;
-    }
-
     private Map<String, Object> createReviewRequestBody(String body, ReviewState state,
                                                         List<ReviewCommentCreateRequest.CommentItem> reviewComments,
                                                         String githubUsername) {
@@ -142,9 +124,8 @@ public class ReviewGithubServiceImpl implements ReviewGithubService {
         }).toList();
     }
 
-    private Long postReview(String url, Map<String, Object> requestBody, HttpHeaders headers) throws Exception {
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> response = restTemplate.postForEntity(url, new HttpEntity<>(requestBody, headers), String.class);
+    private Long postReview(Long installationId, String path, Map<String, Object> requestBody) throws Exception {
+        ResponseEntity<String> response = githubRestClient.exchange(installationId, HttpMethod.POST, path, requestBody, String.class);
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             JsonNode jsonNode = objectMapper.readTree(response.getBody());
             return jsonNode.get("id").asLong();
@@ -152,10 +133,9 @@ public class ReviewGithubServiceImpl implements ReviewGithubService {
         return null;
     }
 
-    private List<JsonNode> fetchReviewComments(String repoFullName, int githubPrNumber, HttpHeaders headers) throws Exception {
-        String commentsUrl = String.format("https://api.github.com/repos/%s/pulls/%d/comments", repoFullName, githubPrNumber);
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> commentsResponse = restTemplate.exchange(commentsUrl, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    private List<JsonNode> fetchReviewComments(Long installationId, String repoFullName, int githubPrNumber) throws Exception {
+        String commentsPath = String.format("/repos/%s/pulls/%d/comments", repoFullName, githubPrNumber);
+        ResponseEntity<String> commentsResponse = githubRestClient.exchange(installationId, HttpMethod.GET, commentsPath, null, String.class);
 
         if (commentsResponse.getStatusCode().is2xxSuccessful() && commentsResponse.getBody() != null) {
             JsonNode commentsArray = objectMapper.readTree(commentsResponse.getBody());
@@ -189,11 +169,6 @@ public class ReviewGithubServiceImpl implements ReviewGithubService {
         return new GithubReviewResponse(reviewId, commentIds, commentDiffs, commentPositions, bodyToGithubCommentId);
     }
 
-    private RestTemplate createPatchRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory());
-        return restTemplate;
-    }
 
 
 }
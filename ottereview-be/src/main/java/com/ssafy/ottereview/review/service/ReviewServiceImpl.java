@@ -3,9 +3,9 @@ package com.ssafy.ottereview.review.service;
 import com.ssafy.ottereview.account.repository.AccountRepository;
 import com.ssafy.ottereview.pullrequest.entity.PullRequest;
 import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
+import com.ssafy.ottereview.pullrequest.service.PullRequestDetailAssembler;
 import com.ssafy.ottereview.repo.repository.RepoRepository;
 import com.ssafy.ottereview.review.dto.GithubReviewResponse;
-import com.ssafy.ottereview.review.dto.ReviewCommentDetailResponse;
 import com.ssafy.ottereview.review.dto.ReviewDetailResponse;
 import com.ssafy.ottereview.review.dto.ReviewRequest;
 import com.ssafy.ottereview.review.dto.ReviewResponse;
@@ -53,6 +53,7 @@ public class ReviewServiceImpl implements ReviewService {
     private final AccountRepository accountRepository;
     private final ReviewerRepository reviewerRepository;
     private final S3Service s3Service;
+    private final PullRequestDetailAssembler pullRequestDetailAssembler;
     
     @Override
     @Transactional
@@ -142,27 +143,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     public List<ReviewDetailResponse> getReviewsByPullRequest(Long accountId, Long repoId, Long prId) {
         
-        return reviewRepository.findByPullRequestId(prId)
-                .stream()
-                .map(review -> {
-                    List<ReviewCommentDetailResponse> reviewComments = reviewCommentRepository.findAllByReview(review)
-                            .stream()
-                            .map(reviewComment -> {
-                                String voiceFileUrl = null;
-                                if (reviewComment.getRecordKey() != null) {
-                                    try {
-                                        voiceFileUrl = s3Service.generatePresignedUrl(reviewComment.getRecordKey(), 60);
-                                    } catch (Exception e) {
-                                        // URL 생성 실패 시 null 처리
-                                        log.debug("음성 파일 URL 생성 실패: null 반환 {}", e.getMessage());
-                                    }
-                                }
-                                return ReviewCommentDetailResponse.fromEntity(reviewComment, voiceFileUrl);
-                            })
-                            .toList();
-                    return ReviewDetailResponse.fromEntityAndReviewComment(review, reviewComments);
-                })
-                .toList();
+        return pullRequestDetailAssembler.getReviewThreads(prId);
     }
     
     @Override
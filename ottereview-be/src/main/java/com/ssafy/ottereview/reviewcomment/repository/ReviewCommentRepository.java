@@ -17,6 +17,20 @@ public interface ReviewCommentRepository extends JpaRepository<ReviewComment, Lo
 
     @Query("SELECT rc FROM ReviewComment rc LEFT JOIN FETCH rc.parentComment WHERE rc.review = :review")
     List<ReviewComment> findAllByReview(@Param("review") Review review);
+
+    // PR 상세 조립용: PR 의 모든 리뷰 코멘트를 작성자/리뷰/부모 댓글과 함께 한 번에 조회
+    @Query("""
+            SELECT rc FROM ReviewComment rc
+            JOIN FETCH rc.review r
+            LEFT JOIN FETCH rc.user
+            LEFT JOIN FETCH rc.parentComment
+            WHERE r.pullRequest.id = :pullRequestId
+            ORDER BY rc.id
+            """)
+    List<ReviewComment> findAllWithUserByPullRequestId(@Param("pullRequestId") Long pullRequestId);
+
+    @Query("SELECT rc FROM ReviewComment rc LEFT JOIN FETCH rc.user LEFT JOIN FETCH rc.parentComment WHERE rc.review.id = :reviewId ORDER BY rc.id")
+    List<ReviewComment> findAllWithUserByReviewId(@Param("reviewId") Long reviewId);
     
     List<ReviewComment> findAllByUserId(Long userId);
 
@@ -314,7 +314,7 @@ public class ReviewCommentServiceImpl implements ReviewCommentService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("Review not found: " + reviewId));
 
-        List<ReviewComment> comments = reviewCommentRepository.findAllByReview(review);
+        List<ReviewComment> comments = reviewCommentRepository.findAllWithUserByReviewId(review.getId());
         return comments.stream()
                 .map(this::createResponseWithVoiceUrl)
                 .collect(Collectors.toList());
@@ -416,15 +416,14 @@ public class ReviewCommentServiceImpl implements ReviewCommentService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new BusinessException(ReviewErrorCode.REVIEW_NOT_FOUND));
 
-        // 최상위 댓글들만 조회
-        List<ReviewComment> parentComments = reviewCommentRepository.findAllByReview(review)
-                .stream()
+        // 리뷰의 댓글을 작성자와 함께 한 번에 조회한 뒤 최상위 댓글과 답글로 나눈다
+        List<ReviewComment> comments = reviewCommentRepository.findAllWithUserByReviewId(review.getId());
+
+        List<ReviewComment> parentComments = comments.stream()
                 .filter(comment -> comment.getParentComment() == null)
                 .collect(Collectors.toList());
 
-        // 모든 답글들을 조회하고 부모 댓글별로 그룹핑
-        List<ReviewComment> allReplies = reviewCommentRepository.findAllByReview(review)
-                .stream()
+        List<ReviewComment> allReplies = comments.stream()
                 .filter(comment -> comment.getParentComment() != null)
                 .collect(Collectors.toList());
 
@@ -482,8 +481,8 @@ public class ReviewCommentServiceImpl implements ReviewCommentService {
                     .githubInReplyToId(parentComment.getGithubId())
                     .line(githubComment.getLine())
                     .startLine(githubComment.getStartLine())
-                    .startSide(githubComment.getStartSide().toString())
-                    .side(githubComment.getSide().toString())
+                    .startSide(githubComment.getStartSide())
+                    .side(githubComment.getSide())
                     .position(githubComment.getPosition())
                     .diffHunk(githubComment.getDiffHunk())
                     .build();
@@ -0,0 +1,13 @@
+package com.ssafy.ottereview.reviewer.dto;
+
+/**
+ * PR 별 리뷰어 수와 승인한 리뷰어 수 (GROUP BY 조회 결과)
+ */
+public interface ReviewerApprovalCount {
+
+    Long getPullRequestId();
+
+    long getReviewerCount();
+
+    long getApprovedCount();
+}
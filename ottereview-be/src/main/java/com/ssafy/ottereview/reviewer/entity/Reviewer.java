@@ -19,7 +19,8 @@ import org.hibernate.annotations.OnDeleteAction;
 public class Reviewer extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviewer_seq")
+    @SequenceGenerator(name = "reviewer_seq", sequenceName = "reviewer_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
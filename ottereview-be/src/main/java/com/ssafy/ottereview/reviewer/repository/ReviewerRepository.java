@@ -1,12 +1,18 @@
 package com.ssafy.ottereview.reviewer.repository;
 
 import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.reviewer.dto.ReviewerApprovalCount;
+import com.ssafy.ottereview.reviewer.entity.ReviewStatus;
 import com.ssafy.ottereview.reviewer.entity.Reviewer;
 import com.ssafy.ottereview.user.entity.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -22,4 +28,25 @@ public interface ReviewerRepository extends JpaRepository<Reviewer, Long> {
     Optional<Reviewer> findByPullRequestAndUser(PullRequest pullRequest, User user);
 
     List<Reviewer> findByPullRequest(PullRequest pullRequest);
+
+    // PR 상세 조립용: 사용자까지 한 번에 조회 (user 가 EAGER 라 일반 조회는 리뷰어 수만큼 추가 쿼리가 나간다)
+    @Query("SELECT r FROM Reviewer r JOIN FETCH r.user JOIN FETCH r.pullRequest WHERE r.pullRequest.id = :pullRequestId ORDER BY r.id")
+    List<Reviewer> findAllWithUserByPullRequestId(@Param("pullRequestId") Long pullRequestId);
+
+    // PR 의 모든 reviewer 상태를 한 번의 UPDATE 로 변경한다. (엔티티를 읽지 않으므로 수정일도 직접 갱신)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Reviewer r SET r.status = :status, r.modifiedAt = CURRENT_TIMESTAMP WHERE r.pullRequest.id = :pullRequestId")
+    int updateStatusByPullRequestId(@Param("pullRequestId") Long pullRequestId, @Param("status") ReviewStatus status);
+
+    // PR 목록 한 페이지의 승인 현황을 한 번에 집계한다. (리뷰어가 없는 PR 은 결과에 없다)
+    @Query("""
+            SELECT r.pullRequest.id AS pullRequestId,
+                   COUNT(r) AS reviewerCount,
+                   SUM(CASE WHEN r.status = :approved THEN 1 ELSE 0 END) AS approvedCount
+            FROM Reviewer r
+            WHERE r.pullRequest.id IN :pullRequestIds
+            GROUP BY r.pullRequest.id
+            """)
+    List<ReviewerApprovalCount> countApprovalsByPullRequestIds(@Param("pullRequestIds") Collection<Long> pullRequestIds,
+            @Param("approved") ReviewStatus approved);
 }
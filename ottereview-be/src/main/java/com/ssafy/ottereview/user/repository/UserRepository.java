@@ -1,6 +1,8 @@
 package com.ssafy.ottereview.user.repository;
 
 import com.ssafy.ottereview.user.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -11,4 +13,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByGithubEmail(String githubEmail);
 
     Optional<User> findByGithubId(Long githubId);
+
+    List<User> findAllByGithubIdIn(Collection<Long> githubIds);
 }
@@ -0,0 +1,142 @@
+package com.ssafy.ottereview.user.service;
+
+import com.ssafy.ottereview.common.exception.BusinessException;
+import com.ssafy.ottereview.githubapp.dto.GithubUserResponse;
+import com.ssafy.ottereview.user.entity.User;
+import com.ssafy.ottereview.user.exception.UserErrorCode;
+import com.ssafy.ottereview.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * GitHub 사용자(작성자, 리뷰어, 조직 멤버 등)를 User 로 바꾼다. 없는 사용자는 새로 저장한다.
+ * <p>
+ * 요청한 사용자 묶음을 IN 쿼리 한 번으로 조회하고 없는 사용자는 한꺼번에 저장하므로, 비용이 users 테이블 크기가 아니라 묶음 크기에 비례한다. 최근에 본 githubId -> userId 는 메모리에 보관해 조회도
+ * 생략한다.
+ */
+@Slf4j
+@Service
+public class UserIdentityResolver {
+
+    private final UserRepository userRepository;
+    private final Map<Long, Long> userIdsByGithubId;
+
+    public UserIdentityResolver(UserRepository userRepository, @Value("${user.identity-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.userIdsByGithubId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Transactional
+    public User resolve(GithubUserResponse githubUser) {
+        return resolveAll(List.of(githubUser)).get(githubUser.getId());
+    }
+
+    /**
+     * @return githubId -> User (중복된 githubId 는 하나로 합친다)
+     */
+    @Transactional
+    public Map<Long, User> resolveAll(Collection<GithubUserResponse> githubUsers) {
+        Map<Long, GithubUserResponse> requested = new LinkedHashMap<>();
+        for (GithubUserResponse githubUser : githubUsers) {
+            if (githubUser != null && githubUser.getId() != null) {
+                requested.putIfAbsent(githubUser.getId(), githubUser);
+            }
+        }
+
+        Map<Long, User> resolved = new HashMap<>();
+        List<Long> unknown = new ArrayList<>();
+        synchronized (userIdsByGithubId) {
+            for (Long githubId : requested.keySet()) {
+                Long userId = userIdsByGithubId.get(githubId);
+                if (userId != null) {
+                    // 이미 아는 사용자는 조회 없이 참조만 만든다. (연관관계 저장에는 id 만 필요하다)
+                    resolved.put(githubId, userRepository.getReferenceById(userId));
+                } else {
+                    unknown.add(githubId);
+                }
+            }
+        }
+        if (unknown.isEmpty()) {
+            return resolved;
+        }
+
+        for (User user : userRepository.findAllByGithubIdIn(unknown)) {
+            resolved.put(user.getGithubId(), user);
+        }
+        remember(resolved.values());
+
+        List<User> newUsers = unknown.stream()
+                .filter(githubId -> !resolved.containsKey(githubId))
+                .map(githubId -> newUser(requested.get(githubId)))
+                .toList();
+        if (!newUsers.isEmpty()) {
+            try {
+                // id 는 시퀀스에서 미리 받으므로 INSERT 가 커밋 시점으로 미뤄진다. 여기서 flush 해야
+                // 다른 요청이 같은 githubId 를 먼저 저장한 경우(unique 위반)를 이 자리에서 잡을 수 있다.
+                userRepository.saveAllAndFlush(newUsers);
+            } catch (DataAccessException e) {
+                log.warn("GitHub 사용자 저장 실패 (동시에 같은 사용자가 저장되었을 수 있음): githubIds={}", newUsers.stream()
+                        .map(User::getGithubId)
+                        .toList());
+                throw new BusinessException(UserErrorCode.USER_REGISTRATION_FAILED);
+            }
+            newUsers.forEach(user -> resolved.put(user.getGithubId(), user));
+            rememberAfterCommit(newUsers);
+        }
+        return resolved;
+    }
+
+    private void remember(Collection<User> users) {
+        synchronized (userIdsByGithubId) {
+            for (User user : users) {
+                if (user.getId() != null) {
+                    userIdsByGithubId.put(user.getGithubId(), user.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * 새로 저장한 사용자는 롤백되면 없는 id 가 되므로 커밋된 뒤에 기억한다.
+     */
+    private void rememberAfterCommit(List<User> users) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(users);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(users);
+            }
+        });
+    }
+
+    private User newUser(GithubUserResponse githubUser) {
+        return User.builder()
+                .githubId(githubUser.getId())
+                .githubUsername(githubUser.getLogin())
+                .githubEmail(githubUser.getEmail())
+                .type(githubUser.getType())
+                .profileImageUrl(githubUser.getAvatarUrl())
+                .rewardPoints(0)
+                .userGrade("BASIC")
+                .build();
+    }
+}
@@ -6,7 +6,6 @@ import com.ssafy.ottereview.user.dto.UserResponseDto;
 import com.ssafy.ottereview.user.entity.User;
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 import org.kohsuke.github.GHUser;
 
 public interface UserService {
@@ -21,8 +20,6 @@ public interface UserService {
 
     List<MyMeetingRoomResponseDto> getMyReposMeetingRooms(Long id);
 
-    Map<Long, User> getAllUser();
-
     void getOrganizationMember(Long installationId, Account account) throws IOException;
 
     List<GHUser> fetchOrganizationMembers(Long installationId) throws IOException;
@@ -4,6 +4,7 @@ import com.ssafy.ottereview.account.entity.Account;
 import com.ssafy.ottereview.account.entity.UserAccount;
 import com.ssafy.ottereview.account.repository.UserAccountRepository;
 import com.ssafy.ottereview.githubapp.client.GithubApiClient;
+import com.ssafy.ottereview.githubapp.dto.GithubUserResponse;
 import com.ssafy.ottereview.githubapp.util.GithubAppUtil;
 import com.ssafy.ottereview.mettingroom.dto.MyMeetingRoomResponseDto;
 import com.ssafy.ottereview.mettingroom.entity.MeetingParticipant;
@@ -13,10 +14,10 @@ import com.ssafy.ottereview.user.entity.User;
 import com.ssafy.ottereview.user.repository.UserRepository;
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.kohsuke.github.GHAppInstallation;
@@ -38,6 +39,7 @@ public class UserServiceImpl implements UserService {
     private final GithubApiClient githubApiClient;
     private final GithubAppUtil githubAppUtil;
     private final UserAccountRepository userAccountRepository;
+    private final UserIdentityResolver userIdentityResolver;
 
     @Value("${openvidu.session.ttl-hours}")
     private long sessionTtlHours;
@@ -81,16 +83,6 @@ public class UserServiceImpl implements UserService {
                 .toList();
     }
 
-    @Override
-    public Map<Long, User> getAllUser() {
-        List<User> dbUsers = userRepository.findAll();
-        Map<Long, User> userMap = new HashMap<>();
-        for (User u : dbUsers) {
-            userMap.put(u.getGithubId(), u);
-        }
-        return userMap;
-    }
-
     /**
      * 같은 Organziation에 있는 맴버를 github api를 통해 불러오는 method
      *
@@ -107,32 +99,6 @@ public class UserServiceImpl implements UserService {
         return organization.listMembers().toList();
     }
 
-    private User findOrCreateUser(GHUser ghUser, Map<Long, User> existingUserMap,
-            List<User> newUsers)
-            throws IOException {
-        User existingUser = existingUserMap.get(ghUser.getId());
-        if (existingUser != null) {
-            return existingUser;
-        }
-
-        User newUser = createUserFromGHUser(ghUser);
-        newUsers.add(newUser);
-        existingUserMap.put(ghUser.getId(), newUser);
-        return newUser;
-    }
-
-    private User createUserFromGHUser(GHUser ghUser) throws IOException {
-        return User.builder()
-                .githubUsername(ghUser.getLogin())
-                .githubId(ghUser.getId())
-                .githubEmail(ghUser.getEmail())
-                .type(ghUser.getType())
-                .profileImageUrl(ghUser.getAvatarUrl())
-                .userGrade("BASIC")
-                .rewardPoints(0)
-                .build();
-    }
-
     private UserAccount createUserAccount(Account account, User user) {
         return UserAccount.builder()
                 .account(account)
@@ -144,21 +110,24 @@ public class UserServiceImpl implements UserService {
     public void getOrganizationMember(Long installationId, Account account) throws IOException {
         try {
             List<GHUser> orgMembers = fetchOrganizationMembers(installationId);
-            Map<Long, User> userMap = getAllUser();
-
-            List<User> newUsers = new ArrayList<>();
-            List<UserAccount> newUserAccounts = new ArrayList<>();
-
-            for (GHUser ghUser : orgMembers) {
-                User user = findOrCreateUser(ghUser, userMap, newUsers);
-                newUserAccounts.add(createUserAccount(account, user));
-            }
-
-            // saveAll로 성능 개선 (개별 저장으로 인해 N+1 문제를 야기해서 바꾸었다.)
 
-            if (!newUsers.isEmpty()) {
-                userRepository.saveAll(newUsers);
-            }
+            // 설치 작업이 재시도될 수 있으므로 이미 연결된 멤버는 다시 연결하지 않는다.
+            Set<Long> linkedUserIds = userAccountRepository.findAllByAccount(account)
+                    .stream()
+                    .map(userAccount -> userAccount.getUser()
+                            .getId())
+                    .collect(Collectors.toSet());
+
+            // users 테이블 전체가 아니라 멤버 목록만 한 번에 조회하고, 없는 사용자는 한꺼번에 저장한다.
+            Map<Long, User> members = userIdentityResolver.resolveAll(orgMembers.stream()
+                    .map(GithubUserResponse::from)
+                    .toList());
+
+            List<UserAccount> newUserAccounts = members.values()
+                    .stream()
+                    .filter(user -> !linkedUserIds.contains(user.getId()))
+                    .map(user -> createUserAccount(account, user))
+                    .toList();
 
             userAccountRepository.saveAll(newUserAccounts);
         } catch (IOException e) {
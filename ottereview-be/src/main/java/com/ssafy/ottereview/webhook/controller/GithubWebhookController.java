@@ -1,22 +1,26 @@
 package com.ssafy.ottereview.webhook.controller;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.ottereview.common.annotation.MvcController;
 import com.ssafy.ottereview.common.exception.BusinessException;
 import com.ssafy.ottereview.user.entity.CustomUserDetail;
 import com.ssafy.ottereview.user.entity.User;
+import com.ssafy.ottereview.webhook.dto.WebhookDelivery;
+import com.ssafy.ottereview.webhook.dto.WebhookJournalEntry;
 import com.ssafy.ottereview.webhook.exception.WebhookErrorCode;
-import com.ssafy.ottereview.webhook.service.BranchProtectionEventService;
-import com.ssafy.ottereview.webhook.service.InstallationEventService;
-import com.ssafy.ottereview.webhook.service.PullRequestEventService;
-import com.ssafy.ottereview.webhook.service.PushEventService;
-import com.ssafy.ottereview.webhook.service.RepoEventService;
-import com.ssafy.ottereview.webhook.service.ReviewCommentEventService;
-import com.ssafy.ottereview.webhook.service.ReviewEventService;
+import com.ssafy.ottereview.webhook.journal.WebhookJournal;
+import com.ssafy.ottereview.webhook.queue.WebhookDeliveryDeduplicator;
+import com.ssafy.ottereview.webhook.queue.WebhookDeliveryQueue;
+import com.ssafy.ottereview.webhook.service.WebhookEventDispatcher;
+import com.ssafy.ottereview.webhook.service.WebhookMetrics;
 import io.swagger.v3.oas.annotations.Hidden;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -32,76 +36,79 @@ import org.springframework.web.bind.annotation.RestController;
 @MvcController
 public class GithubWebhookController {
 
-    private final PushEventService pushEventService;
-    private final InstallationEventService installationEventService;
-    private final PullRequestEventService pullRequestEventService;
-    private final ReviewEventService reviewEventService;
-    private final ReviewCommentEventService reviewCommentEventService;
-    private final BranchProtectionEventService branchProtectionEventService;
-    private final RepoEventService repoEventService;
-    private final ObjectMapper objectMapper;
+    private final WebhookEventDispatcher webhookEventDispatcher;
+    private final WebhookDeliveryQueue webhookDeliveryQueue;
+    private final WebhookDeliveryDeduplicator webhookDeliveryDeduplicator;
+    private final WebhookJournal webhookJournal;
+    private final WebhookMetrics webhookMetrics;
 
+    /**
+     * 이벤트를 검증한 뒤 큐에 적재하고 바로 202 를 응답한다. 실제 처리는 {@link com.ssafy.ottereview.webhook.queue.WebhookDeliveryWorker} 가 맡는다.
+     */
     @Hidden
     @PostMapping
     public ResponseEntity<String> handleWebhook(
             @RequestBody String payload,
             @RequestHeader("X-GitHub-Event") String event,
             @RequestHeader("X-GitHub-Delivery") String delivery,
-            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature) {
-        try {
-            JsonNode jsonNode = objectMapper.readTree(payload);
-            String action = jsonNode.path("action").asText();
-            log.debug("[웹훅 이벤트 수신] 이벤트: {}, Action: {}", event, action);
-            
-        } catch (Exception e) {
-            log.error("Error parsing payload: {}", e.getMessage());
-        }
-        // 이벤트별 처리
-        switch (event) {
-            case "push":
-                pushEventService.processPushEvent(payload);
-                break;
-
-            case "pull_request":
-                pullRequestEventService.processPullRequestEvent(payload);
-                break;
-
-            case "pull_request_review":
-                reviewEventService.processReviewEvent(payload);
-                break;
-
-            case "pull_request_review_comment":
-                reviewCommentEventService.processReviewCommentEvent(payload);
-                break;
-
-            case "installation":
-                installationEventService.processInstallationEvent(payload);
-                break;
-
-            case "installation_repositories":
-                installationEventService.processInstallationRepositoriesEvent(payload);
-                break;
+            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+            @RequestHeader HttpHeaders headers) {
+        log.debug("[웹훅 이벤트 수신] 이벤트: {}, delivery: {}", event, delivery);
+        long receivedAt = System.currentTimeMillis();
 
-            case "create":
-                installationEventService.processAddBranchesEvent(payload);
-                break;
-
-            case "delete":
-                installationEventService.processDeleteBranchesEvent(payload);
-                break;
+        if (!webhookEventDispatcher.supports(event)) {
+            throw new BusinessException(WebhookErrorCode.WEBHOOK_UNSUPPORTED_EVENT);
+        }
 
-            case "branch_protection_rule":
-                branchProtectionEventService.processBranchProtection(payload);
-                break;
+        // 재현과 성능 측정을 위해 중복 여부와 관계없이 받은 그대로 기록한다. (webhook.journal.enabled 가 켜진 환경만)
+        webhookJournal.append(WebhookJournalEntry.builder()
+                .receivedAt(receivedAt)
+                .deliveryId(delivery)
+                .event(event)
+                .headers(journalHeaders(headers))
+                .payload(payload)
+                .build());
+        // 문자 수가 아닌 바이트 수로 기록한다. Content-Length 가 없으면(chunked) 본문을 UTF-8 로 센다.
+        long contentLength = headers.getContentLength();
+        webhookMetrics.recordPayloadSize(event, contentLength >= 0 ? contentLength : payload.getBytes(StandardCharsets.UTF_8).length);
 
-            case "repository":
-                repoEventService.processRepo(payload);
-                break;
+        if (!webhookDeliveryDeduplicator.markIfNew(delivery)) {
+            // 이미 받은 전달 건(GitHub 재전송 등)은 처리 없이 성공으로 응답한다.
+            return ResponseEntity.ok("DUPLICATE");
+        }
 
-            default:
-                throw new BusinessException(WebhookErrorCode.WEBHOOK_UNSUPPORTED_EVENT);
+        try {
+            webhookDeliveryQueue.enqueue(WebhookDelivery.builder()
+                    .deliveryId(delivery)
+                    .event(event)
+                    .payload(payload)
+                    .receivedAt(receivedAt)
+                    .build());
+        } catch (DataAccessException e) {
+            // 큐에 넣지 못하면 이벤트를 잃지 않도록 요청 스레드에서 바로 처리한다.
+            log.warn("웹훅 큐 적재 실패, 즉시 처리: event={}, delivery={}, message={}", event, delivery, e.getMessage());
+            try {
+                webhookEventDispatcher.dispatch(event, payload);
+            } catch (RuntimeException dispatchException) {
+                webhookDeliveryDeduplicator.forget(delivery);
+                throw dispatchException;
+            }
+            return ResponseEntity.ok("OK");
         }
 
-        return ResponseEntity.ok("OK");
+        return ResponseEntity.accepted()
+                .body("ACCEPTED");
+    }
+
+    private Map<String, String> journalHeaders(HttpHeaders headers) {
+        Map<String, String> journalHeaders = new LinkedHashMap<>();
+        headers.forEach((name, values) -> {
+            String lowerName = name.toLowerCase(Locale.ROOT);
+            if ((lowerName.startsWith("x-github-") || lowerName.startsWith("x-hub-") || lowerName.equals("user-agent")
+                    || lowerName.equals("content-type")) && !values.isEmpty()) {
+                journalHeaders.put(name, values.get(0));
+            }
+        });
+        return journalHeaders;
     }
 }
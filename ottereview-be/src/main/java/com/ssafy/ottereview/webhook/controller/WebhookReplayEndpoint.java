@@ -0,0 +1,58 @@
+package com.ssafy.ottereview.webhook.controller;
+
+import com.ssafy.ottereview.webhook.dto.WebhookReplayReport;
+import com.ssafy.ottereview.webhook.dto.WebhookReplayRequest;
+import com.ssafy.ottereview.webhook.service.WebhookReplayService;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 웹훅 저널 재생. 실제 DB 에 반영되므로 사용자 API 가 아닌 관리 포트(management.server.port)의 actuator 엔드포인트로만 연다.
+ * <p>
+ * POST /actuator/webhookreplay 에 from, to(UTC, ISO-8601), ratePerSecond, events(쉼표 구분), limit 를 JSON 으로 보낸다. webhook.journal.replay-enabled
+ * 가 켜진 환경에서만 동작한다.
+ */
+@Component
+@Endpoint(id = "webhookreplay")
+@RequiredArgsConstructor
+public class WebhookReplayEndpoint {
+
+    private final WebhookReplayService webhookReplayService;
+
+    @WriteOperation
+    public WebhookReplayReport replay(@Nullable String from, @Nullable String to, @Nullable Double ratePerSecond,
+            @Nullable String events, @Nullable Integer limit) {
+        return webhookReplayService.replay(new WebhookReplayRequest(
+                parseInstant("from", from),
+                parseInstant("to", to),
+                ratePerSecond == null ? 0 : ratePerSecond,
+                events == null ? null : parseEvents(events),
+                limit));
+    }
+
+    private Instant parseInstant(String name, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidEndpointRequestException(name + " 형식이 올바르지 않습니다: " + value, "Invalid " + name);
+        }
+    }
+
+    private List<String> parseEvents(String events) {
+        return Arrays.stream(events.split(","))
+                .map(String::trim)
+                .filter(event -> !event.isEmpty())
+                .toList();
+    }
+}
@@ -27,6 +27,9 @@ public class ReviewCommentEventDto {
         @JsonProperty("pull_request_review_id")
         private Long pullRequestReviewId;
         
+        @JsonProperty("in_reply_to_id")
+        private Long inReplyToId;
+        
         @JsonProperty("node_id")
         private String nodeId;
         
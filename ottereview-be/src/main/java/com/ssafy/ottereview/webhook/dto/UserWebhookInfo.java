@@ -1,6 +1,7 @@
 package com.ssafy.ottereview.webhook.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ssafy.ottereview.githubapp.dto.GithubUserResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,4 +30,14 @@ public class UserWebhookInfo {
     
     @JsonProperty("html_url")
     private String htmlUrl;
+
+    public GithubUserResponse toGithubUser() {
+        return GithubUserResponse.builder()
+                .id(id)
+                .login(login)
+                .email(email)
+                .type(type)
+                .avatarUrl(avatarUrl)
+                .build();
+    }
 }
@@ -0,0 +1,21 @@
+package com.ssafy.ottereview.webhook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 큐에 저장되는 웹훅 전달 건 (GitHub 가 보낸 원본 payload 그대로)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookDelivery {
+
+    private String deliveryId;
+    private String event;
+    private String payload;
+    private long receivedAt;
+}
@@ -0,0 +1,23 @@
+package com.ssafy.ottereview.webhook.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저널에 한 줄로 기록되는 웹훅 수신 건 (원본 payload 와 GitHub 헤더)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookJournalEntry {
+
+    private long receivedAt;
+    private String deliveryId;
+    private String event;
+    private Map<String, String> headers;
+    private String payload;
+}
@@ -0,0 +1,35 @@
+package com.ssafy.ottereview.webhook.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookReplayReport {
+
+    private int totalCount;
+    private int failureCount;
+    private long elapsedMs;
+    private double throughputPerSecond;
+    private List<EventLatency> events;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EventLatency {
+
+        private String event;
+        private int count;
+        private int failures;
+        private double p50Ms;
+        private double p90Ms;
+        private double p99Ms;
+        private double maxMs;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.ottereview.webhook.dto;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class WebhookReplayRequest {
+
+    private Instant from;
+    private Instant to;
+    // 초당 재생 건수, 0 이하면 제한 없이 재생한다.
+    private double ratePerSecond;
+    // 비어 있으면 모든 이벤트를 재생한다.
+    private List<String> events;
+    private Integer limit;
+}
@@ -8,7 +8,10 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum WebhookErrorCode implements ErrorCode {
     WEBHOOK_UNSUPPORTED_EVENT("WEB001", "지원하지 않는 이벤트입니다.", 400),
-    WEBHOOK_UNSUPPORTED_ACTION("WEB002", "지원하지 않는 액션입니다.", 400);
+    WEBHOOK_UNSUPPORTED_ACTION("WEB002", "지원하지 않는 액션입니다.", 400),
+    WEBHOOK_INVALID_PAYLOAD("WEB003", "웹훅 payload 를 해석할 수 없습니다.", 400),
+    WEBHOOK_REPLAY_DISABLED("WEB004", "웹훅 재생 기능이 비활성화되어 있습니다.", 403),
+    WEBHOOK_JOURNAL_READ_FAILED("WEB005", "웹훅 저널을 읽지 못했습니다.", 500);
     
     private final String code;
     private final String message;
@@ -0,0 +1,239 @@
+package com.ssafy.ottereview.webhook.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ottereview.webhook.dto.WebhookJournalEntry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수신한 웹훅을 원본 그대로 로컬 디스크에 이어 쓰는 저널. (부하 재현과 처리 성능 측정용)
+ * <p>
+ * 요청 스레드에서 동기로 기록하므로 부하 재현이 필요한 검증 환경에서만 켠다. (기본값 꺼짐)
+ * <p>
+ * 한 줄에 한 건씩 JSON 으로 기록하고, 일정 크기나 시간이 지나면 새 gzip 세그먼트 파일로 넘어간다. 세그먼트 이름에 시작 시각(UTC)을 넣어 시간 범위로 읽을 파일을 고른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebhookJournal {
+
+    private static final String SEGMENT_PREFIX = "deliveries-";
+    private static final String SEGMENT_SUFFIX = ".jsonl.gz";
+    private static final DateTimeFormatter SEGMENT_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS")
+            .withZone(ZoneOffset.UTC);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${webhook.journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${webhook.journal.directory:${java.io.tmpdir}/ottereview/webhook-journal}")
+    private String directory;
+
+    @Value("${webhook.journal.segment-max-bytes:67108864}")
+    private long segmentMaxBytes;
+
+    @Value("${webhook.journal.segment-max-minutes:60}")
+    private long segmentMaxMinutes;
+
+    @Value("${webhook.journal.max-segments:168}")
+    private int maxSegments;
+
+    private Path root;
+    private Writer writer;
+    private Instant segmentStartedAt;
+    // 현재 세그먼트 파일에 쓰인 압축 후 바이트 수 (gzip 버퍼에 남은 양만큼 늦게 반영된다)
+    private CountingOutputStream segmentOutput;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Path.of(directory);
+        Files.createDirectories(root);
+    }
+
+    public void append(WebhookJournalEntry entry) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            write(entry);
+        }
+    }
+
+    private void write(WebhookJournalEntry entry) {
+        try {
+            rotateIfNeeded(Instant.ofEpochMilli(entry.getReceivedAt()));
+            writer.write(objectMapper.writeValueAsString(entry));
+            writer.write('\n');
+        } catch (IOException e) {
+            log.warn("웹훅 저널 기록 실패: delivery={}, message={}", entry.getDeliveryId(), e.getMessage());
+            closeSegment();
+        }
+    }
+
+    /**
+     * 버퍼에 남은 내용을 주기적으로 디스크에 내려, 비정상 종료 시에도 직전까지의 기록은 읽을 수 있게 한다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void flush() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            log.warn("웹훅 저널 flush 실패: {}", e.getMessage());
+            closeSegment();
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        closeSegment();
+    }
+
+    /**
+     * [from, to] 범위에 수신된 기록을 수신 순서대로 읽는다.
+     */
+    public void read(Instant from, Instant to, Consumer<WebhookJournalEntry> consumer) throws IOException {
+        flush();
+        List<Path> segments = segments();
+        for (int i = 0; i < segments.size(); i++) {
+            Instant startedAt = startedAt(segments.get(i));
+            Instant nextStartedAt = i + 1 < segments.size() ? startedAt(segments.get(i + 1)) : Instant.MAX;
+            if (startedAt.isAfter(to) || !nextStartedAt.isAfter(from)) {
+                continue;
+            }
+            readSegment(segments.get(i), from, to, consumer);
+        }
+    }
+
+    private void readSegment(Path segment, Instant from, Instant to, Consumer<WebhookJournalEntry> consumer) throws IOException {
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(segment), BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                WebhookJournalEntry entry = objectMapper.readValue(line, WebhookJournalEntry.class);
+                if (entry.getReceivedAt() >= fromMillis && entry.getReceivedAt() <= toMillis) {
+                    consumer.accept(entry);
+                }
+            }
+        } catch (EOFException e) {
+            // 기록 중인 세그먼트나 비정상 종료된 세그먼트는 gzip 트레일러가 없다. 마지막 flush 까지만 읽는다.
+            log.debug("웹훅 저널 세그먼트 끝까지 읽음(트레일러 없음): {}", segment.getFileName());
+        }
+    }
+
+    private void rotateIfNeeded(Instant now) throws IOException {
+        if (writer != null && segmentOutput.count < segmentMaxBytes && Duration.between(segmentStartedAt, now)
+                .toMinutes() < segmentMaxMinutes) {
+            return;
+        }
+        closeSegment();
+
+        Path segment = root.resolve(SEGMENT_PREFIX + SEGMENT_TIME.format(now) + SEGMENT_SUFFIX);
+        segmentOutput = new CountingOutputStream(Files.newOutputStream(segment));
+        writer = new OutputStreamWriter(new GZIPOutputStream(segmentOutput, BUFFER_SIZE, true), StandardCharsets.UTF_8);
+        segmentStartedAt = now;
+        deleteOldSegments();
+    }
+
+    private void closeSegment() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("웹훅 저널 세그먼트 닫기 실패: {}", e.getMessage());
+        }
+        writer = null;
+        segmentOutput = null;
+    }
+
+    private void deleteOldSegments() throws IOException {
+        List<Path> segments = segments();
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    /**
+     * 세그먼트 파일 목록 (이름의 시각 순 = 오래된 순)
+     */
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(root)) {
+            return files.filter(path -> {
+                        String name = path.getFileName()
+                                .toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Instant startedAt(Path segment) {
+        String name = segment.getFileName()
+                .toString();
+        String time = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+        try {
+            return SEGMENT_TIME.parse(time, Instant::from);
+        } catch (DateTimeParseException e) {
+            return Instant.EPOCH;
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ssafy.ottereview.webhook.queue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 큐에서 꺼낸 전달 건 하나의 ACK 핸들. 워커가 처리 스레드에 묶어두고, 처리 결과를 나중에 확정해야 하는 핸들러(이벤트 병합 등)가 {@link #deferCurrent()} 로 가져간다.
+ * <p>
+ * 가져간 쪽이 {@link #complete()} 를 호출해야 ACK 되고, {@link #fail()} 을 호출하면 pending 으로 남아 재처리된다. 어느 쪽이든 한 번만 반영된다.
+ */
+public class WebhookDeliveryAck {
+
+    private static final ThreadLocal<WebhookDeliveryAck> CURRENT = new ThreadLocal<>();
+
+    private final Runnable onComplete;
+    private final Runnable onFail;
+    private final AtomicBoolean resolved = new AtomicBoolean(false);
+    private volatile boolean deferred;
+
+    WebhookDeliveryAck(Runnable onComplete, Runnable onFail) {
+        this.onComplete = onComplete;
+        this.onFail = onFail;
+    }
+
+    /**
+     * 현재 스레드에서 처리 중인 전달 건의 ACK 를 호출한 쪽이 맡는다. 워커 밖에서 실행 중이면(재전송 등) null 을 돌려준다.
+     */
+    public static WebhookDeliveryAck deferCurrent() {
+        WebhookDeliveryAck ack = CURRENT.get();
+        if (ack != null) {
+            ack.deferred = true;
+        }
+        return ack;
+    }
+
+    public void complete() {
+        if (resolved.compareAndSet(false, true)) {
+            onComplete.run();
+        }
+    }
+
+    public void fail() {
+        if (resolved.compareAndSet(false, true)) {
+            onFail.run();
+        }
+    }
+
+    void bind() {
+        // 재시도 시 이전 시도에서 미룬 표시는 지운다. (이전 시도에서 가져간 쪽이 나중에 확정해도 한 번만 반영된다)
+        deferred = false;
+        CURRENT.set(this);
+    }
+
+    void unbind() {
+        CURRENT.remove();
+    }
+
+    boolean isDeferred() {
+        return deferred;
+    }
+}
@@ -0,0 +1,104 @@
+package com.ssafy.ottereview.webhook.queue;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * X-GitHub-Delivery 값으로 같은 웹훅이 두 번 처리되지 않도록 막는다.
+ * <p>
+ * 최근 처리한 delivery id 는 로컬에 먼저 확인하고, 여러 인스턴스 간에는 Redis SETNX 로 판단한다. Redis 가 응답하지 않으면 로컬 기록만으로 판단한다.
+ */
+@Slf4j
+@Component
+public class WebhookDeliveryDeduplicator {
+
+    private static final String KEY_PREFIX = "webhook:delivery:";
+    private static final int LOCAL_MAX_ENTRIES = 10_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+    private final Counter acceptedCounter;
+    private final Counter duplicateCounter;
+
+    private final Map<String, Boolean> recentDeliveries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > LOCAL_MAX_ENTRIES;
+        }
+    };
+
+    public WebhookDeliveryDeduplicator(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+            @Value("${webhook.dedup.ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.acceptedCounter = Counter.builder("webhook.deliveries")
+                .description("수신한 웹훅 전달 건 수")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("webhook.deliveries")
+                .description("수신한 웹훅 전달 건 수")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처음 보는 delivery 면 기록하고 true 를, 이미 받은 적이 있으면 false 를 돌려준다.
+     */
+    public boolean markIfNew(String deliveryId) {
+        if (deliveryId == null || deliveryId.isBlank()) {
+            acceptedCounter.increment();
+            return true;
+        }
+
+        synchronized (recentDeliveries) {
+            if (recentDeliveries.containsKey(deliveryId)) {
+                return duplicate(deliveryId);
+            }
+            recentDeliveries.put(deliveryId, Boolean.TRUE);
+        }
+
+        try {
+            Boolean created = redisTemplate.opsForValue()
+                    .setIfAbsent(KEY_PREFIX + deliveryId, "1", ttl);
+            if (Boolean.FALSE.equals(created)) {
+                return duplicate(deliveryId);
+            }
+        } catch (DataAccessException e) {
+            log.warn("웹훅 중복 확인 실패, 로컬 기록으로 판단: delivery={}, message={}", deliveryId, e.getMessage());
+        }
+
+        acceptedCounter.increment();
+        return true;
+    }
+
+    /**
+     * 처리를 시작하지 못한 delivery 는 기록을 지워 GitHub 의 재전송을 받을 수 있게 한다.
+     */
+    public void forget(String deliveryId) {
+        if (deliveryId == null) {
+            return;
+        }
+        synchronized (recentDeliveries) {
+            recentDeliveries.remove(deliveryId);
+        }
+        try {
+            redisTemplate.delete(KEY_PREFIX + deliveryId);
+        } catch (DataAccessException e) {
+            log.warn("웹훅 중복 기록 삭제 실패: delivery={}, message={}", deliveryId, e.getMessage());
+        }
+    }
+
+    private boolean duplicate(String deliveryId) {
+        duplicateCounter.increment();
+        log.info("중복 웹훅 수신, 처리 생략: delivery={}", deliveryId);
+        return false;
+    }
+}
@@ -0,0 +1,159 @@
+package com.ssafy.ottereview.webhook.queue;
+
+import com.ssafy.ottereview.webhook.dto.WebhookDelivery;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 웹훅 전달 건을 보관하는 Redis Stream.
+ * <p>
+ * 처리에 성공한 건만 ACK 후 삭제하므로, 실패하거나 서버가 죽은 건은 pending 목록에 남아 재시도된다. 재시도 한도를 넘은 건은 dead-letter 스트림으로 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebhookDeliveryQueue {
+
+    static final String STREAM_KEY = "webhook:deliveries";
+    static final String DEAD_LETTER_KEY = "webhook:deliveries:dead";
+    static final String GROUP = "webhook-workers";
+
+    // dead-letter 는 조사용이므로 최근 건만 남긴다.
+    private static final long DEAD_LETTER_MAX_LENGTH = 10_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void createGroupIfAbsent() {
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> xGroupCreate(connection));
+        } catch (RedisSystemException e) {
+            // BUSYGROUP: 이미 그룹이 있으면 그대로 사용한다.
+            log.debug("웹훅 consumer group 이미 존재: {}", e.getMessage());
+        }
+    }
+
+    private String xGroupCreate(RedisConnection connection) {
+        return connection.streamCommands()
+                .xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true);
+    }
+
+    public RecordId enqueue(WebhookDelivery delivery) {
+        return streamOps().add(StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(toMap(delivery)));
+    }
+
+    /**
+     * 아직 어느 consumer 에게도 전달되지 않은 새 건을 읽는다.
+     */
+    public List<MapRecord<String, String, String>> readNew(String consumer, int count, Duration block) {
+        List<MapRecord<String, String, String>> records = streamOps().read(Consumer.from(GROUP, consumer),
+                StreamReadOptions.empty()
+                        .count(count)
+                        .block(block),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        return records == null ? List.of() : records;
+    }
+
+    public List<PendingMessage> pending(int count) {
+        return streamOps().pending(STREAM_KEY, GROUP, Range.unbounded(), count)
+                .toList();
+    }
+
+    /**
+     * 일정 시간 이상 처리되지 않은 pending 건을 현재 consumer 로 가져온다.
+     */
+    public List<MapRecord<String, String, String>> claim(String consumer, Duration minIdle, RecordId recordId) {
+        List<MapRecord<String, String, String>> records = streamOps().claim(STREAM_KEY, GROUP, consumer, minIdle, recordId);
+        return records == null ? List.of() : records;
+    }
+
+    /**
+     * consumer 에게 전달되었지만 아직 ACK 되지 않은 건 수
+     */
+    public long pendingCount(String consumer) {
+        return streamOps().pending(STREAM_KEY, Consumer.from(GROUP, consumer), Range.unbounded(), 1)
+                .size();
+    }
+
+    /**
+     * 그룹에서 consumer 를 지운다. pending 건이 남은 consumer 를 지우면 그 건들이 사라지므로 비어 있을 때만 호출한다.
+     */
+    public void deleteConsumer(String consumer) {
+        streamOps().deleteConsumer(STREAM_KEY, Consumer.from(GROUP, consumer));
+    }
+
+    public long length() {
+        Long size = streamOps().size(STREAM_KEY);
+        return size == null ? 0L : size;
+    }
+
+    public long pendingCount() {
+        PendingMessagesSummary summary = streamOps().pending(STREAM_KEY, GROUP);
+        return summary == null ? 0L : summary.getTotalPendingMessages();
+    }
+
+    public void complete(RecordId recordId) {
+        StreamOperations<String, String, String> ops = streamOps();
+        ops.acknowledge(STREAM_KEY, GROUP, recordId);
+        ops.delete(STREAM_KEY, recordId);
+    }
+
+    public void deadLetter(MapRecord<String, String, String> record, String reason) {
+        Map<String, String> fields = new HashMap<>(record.getValue());
+        fields.put("failedRecordId", record.getId()
+                .getValue());
+        fields.put("reason", reason == null ? "" : reason);
+
+        StreamOperations<String, String, String> ops = streamOps();
+        ops.add(StreamRecords.newRecord()
+                .in(DEAD_LETTER_KEY)
+                .ofMap(fields));
+        ops.trim(DEAD_LETTER_KEY, DEAD_LETTER_MAX_LENGTH, true);
+        complete(record.getId());
+    }
+
+    public WebhookDelivery toDelivery(MapRecord<String, String, String> record) {
+        Map<String, String> fields = record.getValue();
+        return WebhookDelivery.builder()
+                .deliveryId(fields.get("deliveryId"))
+                .event(fields.get("event"))
+                .payload(fields.get("payload"))
+                .receivedAt(Long.parseLong(fields.getOrDefault("receivedAt", "0")))
+                .build();
+    }
+
+    private Map<String, String> toMap(WebhookDelivery delivery) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("deliveryId", delivery.getDeliveryId());
+        fields.put("event", delivery.getEvent());
+        fields.put("payload", delivery.getPayload());
+        fields.put("receivedAt", String.valueOf(delivery.getReceivedAt()));
+        return fields;
+    }
+
+    private StreamOperations<String, String, String> streamOps() {
+        return redisTemplate.opsForStream();
+    }
+}
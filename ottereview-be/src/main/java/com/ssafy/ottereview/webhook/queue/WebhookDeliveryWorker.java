@@ -0,0 +1,379 @@
+package com.ssafy.ottereview.webhook.queue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssafy.ottereview.common.exception.BusinessException;
+import com.ssafy.ottereview.webhook.dto.WebhookDelivery;
+import com.ssafy.ottereview.webhook.exception.WebhookErrorCode;
+import com.ssafy.ottereview.webhook.service.WebhookEventDispatcher;
+import com.ssafy.ottereview.webhook.service.WebhookMetrics;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 웹훅 큐에서 전달 건을 꺼내 PR 이벤트는 PR 별 lane 에서, 나머지는 워커 풀에서 처리한다.
+ * <p>
+ * 동시 실행 수는 lane 수와 워커 스레드 수로 정해지고, 세마포어는 읽어왔지만 끝나지 않은 건 수(webhook.queue.max-in-flight)만 제한한다. 한 PR 에 이벤트가 몰려도 다른 lane 과 워커는 계속
+ * 처리된다.
+ * <p>
+ * PR 이벤트가 실패하면 lane 안에서 백오프 후 다시 시도해, 그동안 같은 PR 의 다음 이벤트가 먼저 적용되지 않게 한다. 최대 시도 횟수를 넘으면 dead-letter 로 옮긴다. 나머지 이벤트는 ACK 하지
+ * 않고 pending 에 남겨두며, 재처리 주기에서 지수 백오프로 다시 가져온다.
+ * <p>
+ * 이 워커가 처리 중이거나 PR lane 에서 대기 중인 건은 재처리하지 않는다. 다른 consumer 의 pending 건은 그 consumer 가 죽었거나 멈췄다고 볼 만큼
+ * (webhook.queue.claim-min-idle-ms) 오래 방치된 경우에만 가져온다.
+ * <p>
+ * consumer 이름은 호스트마다 고정(webhook.queue.consumer-name, 기본값은 호스트 이름)이라 재시작한 워커가 이전 실행의 pending 건을 자기 것으로 보고 바로 재처리한다. 정상
+ * 종료 시 pending 건이 없으면 그룹에서 consumer 를 지운다.
+ * <p>
+ * 핸들러가 {@link WebhookDeliveryAck#deferCurrent()} 로 ACK 를 가져간 건은 핸들러가 확정할 때까지 ACK 하지 않고 in-flight 로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebhookDeliveryWorker implements SmartLifecycle {
+
+    private static final Duration READ_BLOCK = Duration.ofSeconds(2);
+    private static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(5);
+    // 처리 중이 아닌 건까지 포함한 기본 in-flight 한도 = (워커 수 + lane 수) x 이 값
+    private static final int DEFAULT_IN_FLIGHT_PER_SLOT = 8;
+    private static final int PENDING_SCAN_SIZE = 100;
+
+    private final WebhookDeliveryQueue webhookDeliveryQueue;
+    private final WebhookEventDispatcher webhookEventDispatcher;
+    private final Executor webhookWorkerExecutor;
+    private final WebhookPartitionedExecutor webhookPartitionedExecutor;
+    private final WebhookMetrics webhookMetrics;
+
+    @Value("${webhook.queue.workers:4}")
+    private int workers;
+
+    @Value("${webhook.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    // 0 이면 (워커 수 + lane 수) x 8
+    @Value("${webhook.queue.max-in-flight:0}")
+    private int maxInFlight;
+
+    // lane 안 재시도 간격의 시작 값 (1초, 2초, 4초 ...). lane 을 막고 기다리므로 큐 재처리 간격보다 짧게 잡는다.
+    @Value("${webhook.queue.lane-retry-base-ms:1000}")
+    private long laneRetryBaseMillis;
+
+    // 핸들러 최대 실행 시간보다 충분히 길게 잡는다.
+    @Value("${webhook.queue.claim-min-idle-ms:900000}")
+    private long claimMinIdleMillis;
+
+    // 이 워커에 제출되어 아직 끝나지 않은 건 (lane 대기 포함)
+    private final Set<RecordId> inFlight = ConcurrentHashMap.newKeySet();
+
+    // 비어 있으면 호스트 이름을 사용한다. 한 호스트에서 여러 인스턴스를 띄우면 인스턴스마다 다르게 지정한다.
+    @Value("${webhook.queue.consumer-name:}")
+    private String configuredConsumerName;
+
+    private String consumerName;
+
+    // 읽어왔지만 끝나지 않은 건 (lane 대기 포함) 의 한도
+    private Semaphore permits;
+    private Thread pollThread;
+    private volatile boolean running = false;
+
+    @Override
+    public void start() {
+        consumerName = resolveConsumerName();
+        webhookDeliveryQueue.createGroupIfAbsent();
+        int inFlightLimit = maxInFlight > 0 ? maxInFlight : (workers + webhookPartitionedExecutor.size()) * DEFAULT_IN_FLIGHT_PER_SLOT;
+        permits = new Semaphore(inFlightLimit);
+        running = true;
+        pollThread = new Thread(this::pollLoop, "webhook-poller");
+        pollThread.setDaemon(true);
+        pollThread.start();
+        log.info("웹훅 큐 워커 시작: consumer={}, workers={}, lanes={}, maxInFlight={}", consumerName, workers, webhookPartitionedExecutor.size(),
+                inFlightLimit);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (pollThread != null) {
+            pollThread.interrupt();
+        }
+        removeConsumerIfIdle();
+    }
+
+    private void removeConsumerIfIdle() {
+        if (!inFlight.isEmpty()) {
+            log.info("처리 중인 웹훅이 남아 consumer 유지: consumer={}, inFlight={}", consumerName, inFlight.size());
+            return;
+        }
+        try {
+            if (webhookDeliveryQueue.pendingCount(consumerName) == 0) {
+                webhookDeliveryQueue.deleteConsumer(consumerName);
+                log.info("웹훅 consumer 삭제: consumer={}", consumerName);
+            }
+        } catch (Exception e) {
+            log.warn("웹훅 consumer 삭제 실패: consumer={}, message={}", consumerName, e.getMessage());
+        }
+    }
+
+    private String resolveConsumerName() {
+        if (configuredConsumerName != null && !configuredConsumerName.isBlank()) {
+            return configuredConsumerName;
+        }
+        String hostName = System.getenv("HOSTNAME");
+        if (hostName == null || hostName.isBlank()) {
+            try {
+                hostName = InetAddress.getLocalHost()
+                        .getHostName();
+            } catch (UnknownHostException e) {
+                throw new IllegalStateException("웹훅 consumer 이름을 정할 수 없습니다. webhook.queue.consumer-name 을 지정하세요.", e);
+            }
+        }
+        return "worker-" + hostName;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                // in-flight 한도 안에서만 가져와서, 처리하지 못할 건을 이 consumer 의 pending 으로 묶어두지 않는다.
+                permits.acquire();
+                int available = 1 + permits.drainPermits();
+                List<MapRecord<String, String, String>> records = List.of();
+                try {
+                    records = webhookDeliveryQueue.readNew(consumerName, available, READ_BLOCK);
+                } finally {
+                    permits.release(available - records.size());
+                }
+                records.forEach(this::submit);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                        .interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("웹훅 큐 읽기 실패: {}", e.getMessage());
+                sleepQuietly(READ_BLOCK);
+            }
+        }
+    }
+
+    /**
+     * 처리 중 실패했거나 서버 재시작으로 남겨진 pending 건을 백오프 후 다시 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${webhook.queue.reclaim-interval-ms:5000}")
+    public void reclaimPending() {
+        if (!running) {
+            return;
+        }
+        List<PendingMessage> pendingMessages;
+        try {
+            pendingMessages = webhookDeliveryQueue.pending(PENDING_SCAN_SIZE);
+        } catch (Exception e) {
+            log.warn("웹훅 pending 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (PendingMessage pending : pendingMessages) {
+            if (inFlight.contains(pending.getId())) {
+                continue;
+            }
+            long attempts = pending.getTotalDeliveryCount();
+            // 이 워커에서 실패한 건은 백오프 후 다시 처리하고, 다른 consumer 의 건은 멈춘 것으로 볼 만큼 오래된 경우에만 가져온다.
+            Duration minIdle = consumerName.equals(pending.getConsumerName()) ? backOff(attempts) : Duration.ofMillis(claimMinIdleMillis);
+            if (pending.getElapsedTimeSinceLastDelivery()
+                    .compareTo(minIdle) < 0) {
+                continue;
+            }
+            if (attempts < maxAttempts && !permits.tryAcquire()) {
+                return;
+            }
+
+            List<MapRecord<String, String, String>> claimed = webhookDeliveryQueue.claim(consumerName, minIdle, pending.getId());
+            if (claimed.isEmpty()) {
+                // 다른 인스턴스가 먼저 가져갔거나 이미 삭제된 건
+                if (attempts < maxAttempts) {
+                    permits.release();
+                }
+                continue;
+            }
+
+            MapRecord<String, String, String> record = claimed.get(0);
+            if (attempts >= maxAttempts) {
+                log.error("웹훅 처리 재시도 한도 초과, dead-letter 이동: recordId={}, attempts={}", record.getId(), attempts);
+                webhookDeliveryQueue.deadLetter(record, "max attempts exceeded");
+                webhookMetrics.recordDeadLetter(record.getValue()
+                        .get("event"));
+                continue;
+            }
+            log.info("웹훅 재처리: recordId={}, attempts={}", record.getId(), attempts);
+            submit(record);
+        }
+    }
+
+    /**
+     * PR 관련 이벤트는 PR 별 lane 에 넣어 같은 PR 의 이벤트가 수신 순서대로 적용되게 하고, 나머지는 워커 풀에서 바로 처리한다.
+     */
+    private void submit(MapRecord<String, String, String> record) {
+        WebhookDelivery delivery = webhookDeliveryQueue.toDelivery(record);
+        if (delivery.getEvent() == null || !webhookEventDispatcher.supports(delivery.getEvent())) {
+            deadLetter(record, "unsupported event: " + delivery.getEvent());
+            return;
+        }
+
+        JsonNode root;
+        try {
+            root = webhookEventDispatcher.parse(delivery.getPayload());
+        } catch (BusinessException e) {
+            // 다시 시도해도 파싱되지 않으므로 바로 dead-letter 로 보낸다.
+            deadLetter(record, "invalid payload");
+            return;
+        }
+
+        // 병합 대기 등으로 ACK 가 미뤄진 건은 확정될 때까지 in-flight 로 남겨 재처리 대상에서 뺀다.
+        WebhookDeliveryAck ack = new WebhookDeliveryAck(() -> {
+            try {
+                webhookDeliveryQueue.complete(record.getId());
+            } finally {
+                inFlight.remove(record.getId());
+            }
+        }, () -> inFlight.remove(record.getId()));
+        inFlight.add(record.getId());
+        try {
+            String partitionKey = webhookEventDispatcher.partitionKey(delivery.getEvent(), root);
+            Runnable task = () -> {
+                try {
+                    webhookMetrics.recordQueueLag(delivery.getReceivedAt());
+                    if (partitionKey != null) {
+                        processInLane(record, delivery, root, ack);
+                    } else if (!process(delivery, root, ack, record)) {
+                        ack.fail();
+                    }
+                } finally {
+                    permits.release();
+                }
+            };
+            if (partitionKey != null) {
+                webhookPartitionedExecutor.execute(partitionKey, task);
+            } else {
+                webhookWorkerExecutor.execute(task);
+            }
+        } catch (RuntimeException e) {
+            // 실행기가 거절한 건은 pending 으로 남아 재처리 주기에서 다시 시도된다.
+            inFlight.remove(record.getId());
+            permits.release();
+            log.warn("웹훅 처리 작업 제출 실패: recordId={}, message={}", record.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * PR 이벤트는 실패해도 lane 을 넘기지 않고 그 자리에서 다시 시도한다. 큐 재처리로 미루면 같은 PR 의 더 최근 이벤트가 먼저 적용되기 때문이다.
+     */
+    private void processInLane(MapRecord<String, String, String> record, WebhookDelivery delivery, JsonNode root, WebhookDeliveryAck ack) {
+        for (int attempt = 1; ; attempt++) {
+            if (process(delivery, root, ack, record)) {
+                return;
+            }
+            if (attempt >= maxAttempts) {
+                log.error("웹훅 처리 재시도 한도 초과, dead-letter 이동: recordId={}, attempts={}", record.getId(), attempt);
+                try {
+                    webhookDeliveryQueue.deadLetter(record, "max attempts exceeded");
+                    webhookMetrics.recordDeadLetter(delivery.getEvent());
+                } finally {
+                    ack.fail();
+                }
+                return;
+            }
+            sleepQuietly(laneBackOff(attempt));
+            if (Thread.currentThread()
+                    .isInterrupted()) {
+                // 종료 중이면 pending 으로 남겨 다음 실행에서 다시 처리한다.
+                ack.fail();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return 끝난 건(성공, ACK 위임, dead-letter)이면 true, 다시 시도해야 하면 false
+     */
+    private boolean process(WebhookDelivery delivery, JsonNode root, WebhookDeliveryAck ack, MapRecord<String, String, String> record) {
+        ack.bind();
+        try {
+            webhookEventDispatcher.dispatch(delivery.getEvent(), root);
+            if (!ack.isDeferred()) {
+                ack.complete();
+            }
+            log.debug("웹훅 처리 완료: event={}, delivery={}, deferred={}", delivery.getEvent(), delivery.getDeliveryId(), ack.isDeferred());
+            return true;
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == WebhookErrorCode.WEBHOOK_INVALID_PAYLOAD) {
+                // DTO 로 변환되지 않는 payload 는 재시도해도 같으므로 바로 dead-letter 로 보낸다.
+                webhookDeliveryQueue.deadLetter(record, "invalid payload");
+                webhookMetrics.recordDeadLetter(delivery.getEvent());
+                ack.fail();
+                return true;
+            }
+            log.warn("웹훅 처리 실패, 재시도 예정: event={}, delivery={}, message={}", delivery.getEvent(), delivery.getDeliveryId(),
+                    e.getMessage());
+            return false;
+        } catch (Exception e) {
+            log.warn("웹훅 처리 실패, 재시도 예정: event={}, delivery={}, message={}", delivery.getEvent(), delivery.getDeliveryId(),
+                    e.getMessage());
+            return false;
+        } finally {
+            ack.unbind();
+        }
+    }
+
+    private void deadLetter(MapRecord<String, String, String> record, String reason) {
+        try {
+            webhookDeliveryQueue.deadLetter(record, reason);
+            webhookMetrics.recordDeadLetter(record.getValue()
+                    .get("event"));
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 5초, 10초, 20초 ... 로 재시도 간격을 늘린다.
+     */
+    private Duration backOff(long attempts) {
+        long exponent = Math.min(Math.max(attempts - 1, 0), 10);
+        return RETRY_BASE_DELAY.multipliedBy(1L << exponent);
+    }
+
+    /**
+     * lane 안 재시도 간격. 1초, 2초, 4초 ...
+     */
+    private Duration laneBackOff(int attempt) {
+        return Duration.ofMillis(laneRetryBaseMillis)
+                .multipliedBy(1L << Math.min(attempt - 1, 10));
+    }
+
+    private void sleepQuietly(Duration duration) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+        }
+    }
+}
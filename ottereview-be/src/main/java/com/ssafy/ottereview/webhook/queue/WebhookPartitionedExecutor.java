@@ -0,0 +1,66 @@
+package com.ssafy.ottereview.webhook.queue;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키별로 순서를 보장하는 실행기. 같은 키(저장소 + PR 번호)의 작업은 항상 같은 단일 스레드 lane 에서 들어온 순서대로 실행되고, 다른 키는 여러 lane 에서 병렬로 실행된다.
+ */
+@Slf4j
+@Component
+public class WebhookPartitionedExecutor {
+
+    private final ExecutorService[] lanes;
+
+    public WebhookPartitionedExecutor(@Value("${webhook.queue.partitions:0}") int partitions) {
+        int size = partitions > 0 ? partitions : Runtime.getRuntime()
+                .availableProcessors() * 2;
+        this.lanes = new ExecutorService[size];
+        for (int i = 0; i < size; i++) {
+            lanes[i] = newLane(i);
+        }
+        log.info("웹훅 PR 이벤트 실행기 생성: partitions={}", size);
+    }
+
+    /**
+     * PR 이벤트의 파티션 키. (저장소 id#PR 번호)
+     */
+    public static String pullRequestKey(long repositoryId, int prNumber) {
+        return repositoryId + "#" + prNumber;
+    }
+
+    public int size() {
+        return lanes.length;
+    }
+
+    public void execute(String key, Runnable task) {
+        lanes[Math.floorMod(key.hashCode(), lanes.length)].execute(task);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            lane.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private ExecutorService newLane(int index) {
+        AtomicInteger threadCount = new AtomicInteger();
+        // 대기 건 수는 워커의 in-flight 한도로 제한되므로 lane 의 대기열은 따로 제한하지 않는다.
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "webhook-pr-" + index + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
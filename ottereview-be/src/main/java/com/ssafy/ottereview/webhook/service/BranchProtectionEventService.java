@@ -32,14 +32,14 @@ public class BranchProtectionEventService {
     private final BranchRepository branchRepository;
     private final GithubAppUtil githubAppUtill;
 
-    public void processBranchProtection(String payload) {
+    public void processBranchProtection(BranchProtection event) {
         log.debug("branch protect rule 추가 및 수정 로직 작동중");
 
         try {
-            BranchProtection event = objectMapper.readValue(payload, BranchProtection.class);
-            String formattedPayload = objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(event);
-            log.debug("DTO로 받은 BranchProtection event: {}", formattedPayload);
+            if (log.isDebugEnabled()) {
+                log.debug("DTO로 받은 BranchProtection event: {}", objectMapper.writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(event));
+            }
             switch (event.getAction()) {
                 case "created":
                     log.debug("created event handler start");
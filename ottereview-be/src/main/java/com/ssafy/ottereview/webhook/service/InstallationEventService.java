@@ -7,10 +7,10 @@ import com.ssafy.ottereview.account.service.UserAccountService;
 import com.ssafy.ottereview.branch.entity.Branch;
 import com.ssafy.ottereview.branch.repository.BranchRepository;
 import com.ssafy.ottereview.common.exception.BusinessException;
-import com.ssafy.ottereview.githubapp.client.GithubApiClient;
+import com.ssafy.ottereview.githubapp.util.GithubAppUtil;
 import com.ssafy.ottereview.repo.entity.Repo;
 import com.ssafy.ottereview.repo.repository.RepoRepository;
-import com.ssafy.ottereview.repo.service.RepoService;
+import com.ssafy.ottereview.repo.service.RepoReconcileService;
 import com.ssafy.ottereview.user.entity.CustomUserDetail;
 import com.ssafy.ottereview.user.entity.User;
 import com.ssafy.ottereview.webhook.controller.EventSendController;
@@ -18,11 +18,8 @@ import com.ssafy.ottereview.webhook.dto.BranchEventDto;
 import com.ssafy.ottereview.webhook.dto.InstallationEventDto;
 import com.ssafy.ottereview.webhook.dto.RepositoryEventDto;
 import com.ssafy.ottereview.webhook.exception.WebhookErrorCode;
-import java.io.IOException;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.kohsuke.github.GHRepository;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,20 +33,19 @@ public class InstallationEventService {
     private final ObjectMapper objectMapper;
     private final AccountRepository accountRepository;
     private final RepoRepository repoRepository;
-    private final GithubApiClient githubApiClient;
     private final UserAccountService userAccountService;
     private final BranchRepository branchRepository;
-    private final RepoService repoService;
     private final EventSendController eventSendController;
+    private final GithubAppUtil githubAppUtil;
+    private final RepoReconcileService repoReconcileService;
 
-    public void processInstallationEvent(String payload) {
+    public void processInstallationEvent(InstallationEventDto event) {
 
         try {
-            InstallationEventDto event = objectMapper.readValue(payload,
-                    InstallationEventDto.class);
-            String formattedPayload = objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(event);
-            log.debug("DTO로 받은 installation event: {}", formattedPayload);
+            if (log.isDebugEnabled()) {
+                log.debug("DTO로 받은 installation event: {}", objectMapper.writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(event));
+            }
 
             switch (event.getAction()) {
                 case "created":
@@ -73,14 +69,14 @@ public class InstallationEventService {
         }
     }
 
-    public void processInstallationRepositoriesEvent(String payload) {
+    public void processInstallationRepositoriesEvent(RepositoryEventDto event) {
         log.debug("Installation Repositories Event 프로세스 실행");
 
         try {
-            RepositoryEventDto event = objectMapper.readValue(payload, RepositoryEventDto.class);
-            String formattedPayload = objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(event);
-            log.debug("DTO로 받은 RepositoryEventDto event: {}", formattedPayload);
+            if (log.isDebugEnabled()) {
+                log.debug("DTO로 받은 RepositoryEventDto event: {}", objectMapper.writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(event));
+            }
 
             switch (event.getAction()) {
                 case "created":
@@ -104,13 +100,13 @@ public class InstallationEventService {
         }
     }
 
-    public void processAddBranchesEvent(String payload) {
+    public void processAddBranchesEvent(BranchEventDto event) {
         log.debug("Added Branch Event 프로세스 실행");
         try {
-            BranchEventDto event = objectMapper.readValue(payload, BranchEventDto.class);
-            String formattedPayload = objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(event);
-            log.debug("DTO로 받은 BranchEventDto event: {}", formattedPayload);
+            if (log.isDebugEnabled()) {
+                log.debug("DTO로 받은 BranchEventDto event: {}", objectMapper.writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(event));
+            }
 
             switch (event.getRefType()) {
                 case "branch":
@@ -128,13 +124,13 @@ public class InstallationEventService {
         }
     }
 
-    public void processDeleteBranchesEvent(String payload) {
+    public void processDeleteBranchesEvent(BranchEventDto event) {
         log.debug("Branch delete Event 프로세스 실행");
         try {
-            BranchEventDto event = objectMapper.readValue(payload, BranchEventDto.class);
-            String formattedPayload = objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(event);
-            log.debug("DTO로 받은 BranchEventDto event: {}", formattedPayload);
+            if (log.isDebugEnabled()) {
+                log.debug("DTO로 받은 BranchEventDto event: {}", objectMapper.writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(event));
+            }
             switch (event.getRefType()) {
                 case "branch":
                     log.debug("Branch deleted event received");
@@ -169,6 +165,8 @@ public class InstallationEventService {
     // B
 
     private void handleInstallationDeleted(InstallationEventDto event) {
+        githubAppUtil.evictInstallation(event.getInstallation()
+                .getId());
         accountRepository.deleteByGithubId(event.getInstallation()
                 .getAccount()
                 .getId());
@@ -182,16 +180,12 @@ public class InstallationEventService {
         }
     }
 
-    private void handleRepositoryAdded(RepositoryEventDto event) throws IOException {
+    private void handleRepositoryAdded(RepositoryEventDto event) {
         Account account = userAccountService.getAccountByInstallationId(
                 event.getInstallation().getId());
-        List<GHRepository> ghRepositoryList = githubApiClient.getRepositories(
-                event.getInstallation().getId());
-        for (GHRepository gr : ghRepositoryList) {
-            log.debug("추가된 레포지토리 정보: {}", gr);
-        }
-        // repository , branch , pullRequest를 한번에 저장하는 로직이다.
-        repoService.updateRepoList(ghRepositoryList, account);
+        // 새 저장소의 repository, branch, pullRequest 저장은 rate limit 대기로 오래 걸릴 수 있어 웹훅 스레드에서 하지 않는다.
+        // 커밋 후 증분 동기화가 GitHub 저장소 목록과 비교해 새 저장소를 처음부터 가져오고, 기존 저장소의 차이도 함께 맞춘다.
+        repoReconcileService.requestReconcile(account.getId());
         eventSendController.push(event.getSender().getId(),"update", "update");
     }
 
@@ -6,6 +6,7 @@ import com.ssafy.ottereview.description.dto.DescriptionBulkCreateRequest;
 import com.ssafy.ottereview.description.dto.DescriptionResponse;
 import com.ssafy.ottereview.description.exception.DescriptionErrorCde;
 import com.ssafy.ottereview.description.service.DescriptionService;
+import com.ssafy.ottereview.githubapp.client.GithubPrDetailCache;
 import com.ssafy.ottereview.preparation.dto.DescriptionInfo;
 import com.ssafy.ottereview.preparation.dto.PrUserInfo;
 import com.ssafy.ottereview.preparation.dto.PreparationResult;
@@ -21,25 +22,24 @@ import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
 import com.ssafy.ottereview.pullrequest.service.PullRequestService;
 import com.ssafy.ottereview.repo.entity.Repo;
 import com.ssafy.ottereview.repo.repository.RepoRepository;
-import com.ssafy.ottereview.reviewer.dto.ReviewerResponse;
 import com.ssafy.ottereview.reviewer.entity.ReviewStatus;
 import com.ssafy.ottereview.reviewer.entity.Reviewer;
 import com.ssafy.ottereview.reviewer.repository.ReviewerRepository;
-import com.ssafy.ottereview.reviewer.service.ReviewerService;
 import com.ssafy.ottereview.user.entity.User;
-import com.ssafy.ottereview.user.exception.UserErrorCode;
 import com.ssafy.ottereview.user.repository.UserRepository;
+import com.ssafy.ottereview.user.service.UserIdentityResolver;
 import com.ssafy.ottereview.webhook.controller.EventSendController;
 import com.ssafy.ottereview.webhook.dto.PullRequestEventDto;
 import com.ssafy.ottereview.webhook.dto.PullRequestEventDto.RepositoryInfo;
 import com.ssafy.ottereview.webhook.dto.PullRequestWebhookInfo;
-import com.ssafy.ottereview.webhook.dto.UserWebhookInfo;
 import com.ssafy.ottereview.webhook.exception.WebhookErrorCode;
+import com.ssafy.ottereview.webhook.queue.WebhookPartitionedExecutor;
 import jakarta.transaction.Transactional;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -53,7 +53,7 @@ public class PullRequestEventService {
     private final PullRequestRepository pullRequestRepository;
     private final RepoRepository repoRepository;
     private final UserRepository userRepository;
-    private final ReviewerService reviewerService;
+    private final UserIdentityResolver userIdentityResolver;
     private final ReviewerRepository reviewerRepository;
     private final PreparationRedisRepository preparationRedisRepository;
     private final PriorityRepository priorityRepository;
@@ -61,13 +61,22 @@ public class PullRequestEventService {
     private final DescriptionService descriptionService;
     private final PullRequestService pullRequestService;
     private final EventSendController eventSendController;
+    private final PullRequestSyncCoalescer pullRequestSyncCoalescer;
+    private final GithubPrDetailCache githubPrDetailCache;
     
-    public void processPullRequestEvent(String payload) {
+    public void processPullRequestEvent(PullRequestEventDto event) {
         try {
-            PullRequestEventDto event = objectMapper.readValue(payload, PullRequestEventDto.class);
-            String formattedPayload = objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(event);
-            log.debug("DTO로 받은 PR 이벤트 정보: {}\n", formattedPayload);
+            if (log.isDebugEnabled()) {
+                log.debug("DTO로 받은 PR 이벤트 정보: {}\n", objectMapper.writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(event));
+            }
+            
+            boolean syncEvent = "synchronize".equals(event.getAction()) || "edited".equals(event.getAction());
+            if (!syncEvent) {
+                // 대기 중인 동기화 이벤트를 먼저 반영해 수신 순서를 유지한다.
+                pullRequestSyncCoalescer.flush(event.getPullRequest()
+                        .getId());
+            }
             
             switch (event.getAction()) {
                 case "opened":
@@ -98,7 +107,7 @@ public class PullRequestEventService {
                     break;
                 
                 case "synchronize":
-                    handlePullRequestSynchronize(event);
+                    coalesceSynchronize(event);
                     break;
                 
                 case "reopened":
@@ -106,7 +115,7 @@ public class PullRequestEventService {
                     break;
                 
                 case "edited":
-                    handlePullRequestSynchronize(event);
+                    coalesceSynchronize(event);
                     break;
                 
                 default:
@@ -128,6 +137,16 @@ public class PullRequestEventService {
         pullRequest.updateState(PrState.OPEN);
     }
     
+    /**
+     * 연속된 synchronize / edited 이벤트는 모아서 마지막 상태만 반영한다. (리뷰어 초기화와 SSE 전송이 한 번만 일어난다)
+     */
+    private void coalesceSynchronize(PullRequestEventDto event) {
+        String partitionKey = WebhookPartitionedExecutor.pullRequestKey(event.getRepository()
+                .getId(), event.getNumber());
+        pullRequestSyncCoalescer.submit(partitionKey, event.getPullRequest()
+                .getId(), event, this::handlePullRequestSynchronize);
+    }
+    
     // mergeable 값을 못가져옴..
     private void handlePullRequestSynchronize(PullRequestEventDto event) {
         log.debug("[웹훅 PR 동기화 로직 실행]");
@@ -138,21 +157,14 @@ public class PullRequestEventService {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "깃허브 PR ID에 해당하는 PR이 존재하지 않습니다.: " + githubId));
         
-        List<ReviewerResponse> reviewerList = reviewerService.getReviewerByPullRequest(pullRequest.getId());
-        // reviewer들의 state를 none으로 바꿔야한다.
-        List<Reviewer> reviewers = reviewerList.stream()
-                .map(r -> Reviewer.builder()
-                        .id(r.getId())
-                        .user(User.to(r.getUser()))
-                        .status(ReviewStatus.NONE)
-                        .pullRequest(PullRequest.to(r.getPullRequest()))
-                        .build())
-                .toList();
+        pullRequest.synchronizedByWebhook(event);
+        // head 나 base 가 바뀌었으므로 이전 head 기준 파일/커밋 캐시는 더 이상 쓰이지 않는다.
+        githubPrDetailCache.evict(pullRequest.getId());
         
         // 만약 Synchronize 가 들어오면 모든 Reviewr들의 state를 None으로 초기화한다.
-        reviewerRepository.saveAll(reviewers);
+        // (PR 변경분을 먼저 flush 한 뒤 단일 UPDATE 로 처리하므로 reviewer 수와 관계없이 쿼리 한 번)
+        reviewerRepository.updateStatusByPullRequestId(pullRequest.getId(), ReviewStatus.NONE);
         
-        pullRequest.synchronizedByWebhook(event);
         log.debug("sync 온다~~~~~₩!!!!!!");
         eventSendController.push(event.getSender()
                 .getId(), "synchronize", "synchronize");
@@ -181,6 +193,7 @@ public class PullRequestEventService {
         
         // PR 상태를 CLOSED로 변경
         pullRequest.updateState(PrState.CLOSED);
+        githubPrDetailCache.evict(pullRequest.getId());
         
         log.debug("Pull Request with GitHub PR number {} has been closed.", githubId);
     }
@@ -194,13 +207,14 @@ public class PullRequestEventService {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "해당 repository ID에 해당하는 Repo가 존재하지 않습니다.: " + repo.getId()));
         
-        User author = userRepository.findByGithubId(pullRequest.getUser()
-                        .getId())
-                .orElseGet(() -> registerUser(pullRequest.getUser()));
+        User author = userIdentityResolver.resolve(pullRequest.getUser()
+                .toGithubUser());
         
         PullRequest newPullRequest = PullRequest.builder()
                 .githubId(pullRequest.getId())
                 .githubPrNumber(event.getNumber())
+                .commitSha(pullRequest.getHead()
+                        .getSha())
                 .title(pullRequest.getTitle())
                 .body(pullRequest.getBody())
                 .state(PrState.fromGithubState(pullRequest.getState(), pullRequest.getMerged()))
@@ -225,7 +239,14 @@ public class PullRequestEventService {
                 .approveCnt(0)
                 .build();
         
-        PullRequest savedPullRequest = pullRequestRepository.save(newPullRequest);
+        PullRequest savedPullRequest;
+        try {
+            savedPullRequest = pullRequestRepository.save(newPullRequest);
+        } catch (DataIntegrityViolationException e) {
+            // 증분 동기화가 먼저 저장했다. 이 트랜잭션은 롤백되고, 재처리 시 이미 존재하는 PR 로 처리된다.
+            log.info("동시에 저장된 PR, 재처리 시 기존 PR 로 처리: githubId={}", pullRequest.getId());
+            throw e;
+        }
         
         // Redis에서 prepareInfo 조회 후 관련 데이터 저장
         saveRelatedDataFromRedis(savedPullRequest, targetRepo.getId(), pullRequest.getHead()
@@ -438,23 +459,4 @@ public class PullRequestEventService {
         return userRepository.findById(userInfo.getId())
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userInfo.getId()));
     }
-    
-    private User registerUser(UserWebhookInfo userInfo) {
-        try {
-            User user = User.builder()
-                    .githubId(userInfo.getId())
-                    .githubUsername(userInfo.getLogin())
-                    .githubEmail(userInfo.getEmail() != null ? userInfo.getEmail() : null)
-                    .type(userInfo.getType())
-                    .profileImageUrl(userInfo.getAvatarUrl() != null ? userInfo.getAvatarUrl()
-                            .toString() : null)
-                    .rewardPoints(0)
-                    .userGrade("BASIC")
-                    .build();
-            
-            return userRepository.save(user);
-        } catch (Exception e) {
-            throw new BusinessException(UserErrorCode.USER_REGISTRATION_FAILED);
-        }
-    }
 }
@@ -0,0 +1,224 @@
+package com.ssafy.ottereview.webhook.service;
+
+import com.ssafy.ottereview.webhook.dto.PullRequestEventDto;
+import com.ssafy.ottereview.webhook.queue.WebhookDeliveryAck;
+import com.ssafy.ottereview.webhook.queue.WebhookPartitionedExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 강제 푸시나 리베이스로 짧은 간격에 연달아 들어오는 PR synchronize / edited 이벤트를 PR 단위로 모아 마지막 이벤트만 적용한다.
+ * <p>
+ * 마지막 이벤트 이후 quiet-period 동안 새 이벤트가 없으면 반영하고, 계속 들어오더라도 첫 이벤트로부터 max-delay 안에는 반드시 반영한다. 반영은 해당 PR 의 웹훅 lane 에서 실행되므로 같은 PR 의 다른 이벤트와 순서가 섞이지 않는다.
+ * <p>
+ * 병합된 이벤트들의 큐 전달 건은 반영이 별도 트랜잭션으로 커밋된 뒤에 ACK 한다. 반영에 실패하면 대기 목록에 되돌려 같은 lane 에서 백오프 후 다시 적용하므로, 그 사이 같은 PR 의 다음 이벤트는 이 반영을
+ * 앞지르지 못한다. 최대 시도 횟수를 넘기거나 그 전에 서버가 죽으면 pending 으로 남아 큐에서 다시 처리된다.
+ */
+@Slf4j
+@Component
+public class PullRequestSyncCoalescer {
+
+    private final WebhookPartitionedExecutor webhookPartitionedExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter coalescedCounter;
+    private final boolean enabled;
+    private final Duration quietPeriod;
+    private final Duration maxDelay;
+    private final int maxAttempts;
+    private final Duration retryBaseDelay;
+
+    private final Map<Long, PendingSync> pendingSyncs = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "webhook-coalesce");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PullRequestSyncCoalescer(WebhookPartitionedExecutor webhookPartitionedExecutor, TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${webhook.coalesce.enabled:true}") boolean enabled,
+            @Value("${webhook.coalesce.quiet-ms:3000}") long quietMillis,
+            @Value("${webhook.coalesce.max-delay-ms:15000}") long maxDelayMillis,
+            @Value("${webhook.queue.max-attempts:5}") int maxAttempts,
+            @Value("${webhook.queue.lane-retry-base-ms:1000}") long retryBaseMillis) {
+        this.webhookPartitionedExecutor = webhookPartitionedExecutor;
+        // 다른 이벤트 처리 트랜잭션 안에서 flush 되더라도 따로 커밋/롤백되어야 ACK 시점을 정할 수 있다.
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.coalescedCounter = Counter.builder("webhook.pull_request.sync.coalesced")
+                .description("다음 이벤트에 합쳐져 적용되지 않은 synchronize / edited 이벤트 수")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.quietPeriod = Duration.ofMillis(quietMillis);
+        this.maxDelay = Duration.ofMillis(maxDelayMillis);
+        this.maxAttempts = maxAttempts;
+        this.retryBaseDelay = Duration.ofMillis(retryBaseMillis);
+    }
+
+    /**
+     * 이벤트를 대기 목록에 넣는다. 같은 PR 의 대기 중인 이벤트가 있으면 새 이벤트로 교체한다.
+     * <p>
+     * 큐 워커 밖(저널 재생, 큐 적재 실패 시 즉시 처리)에서 호출되면 미룰 ACK 가 없으므로 병합하지 않고 현재 스레드에서 바로 적용한다. 재생의 처리 시간 측정에도 실제 반영이 포함된다.
+     */
+    public void submit(String partitionKey, Long githubPrId, PullRequestEventDto event, Consumer<PullRequestEventDto> handler) {
+        WebhookDeliveryAck ack = enabled ? WebhookDeliveryAck.deferCurrent() : null;
+        if (ack == null) {
+            // 먼저 들어와 대기 중인 이벤트가 있으면 순서를 지키기 위해 먼저 반영한다.
+            flush(githubPrId);
+            handler.accept(event);
+            return;
+        }
+
+        pendingSyncs.compute(githubPrId, (id, pending) -> {
+            Instant now = Instant.now();
+            if (pending == null) {
+                pending = new PendingSync(partitionKey, now);
+            } else {
+                coalescedCounter.increment();
+                log.debug("PR 동기화 이벤트 병합: githubPrId={}, action={}", id, event.getAction());
+            }
+            pending.event = event;
+            pending.handler = handler;
+            pending.acks.add(ack);
+            pending.version++;
+
+            Instant quietDeadline = now.plus(quietPeriod);
+            Instant maxDeadline = pending.firstReceivedAt.plus(maxDelay);
+            Instant deadline = quietDeadline.isBefore(maxDeadline) ? quietDeadline : maxDeadline;
+            long version = pending.version;
+            scheduler.schedule(() -> requestFlush(id, version), Math.max(0, Duration.between(now, deadline)
+                    .toMillis()), TimeUnit.MILLISECONDS);
+            return pending;
+        });
+    }
+
+    /**
+     * 대기 중인 이벤트가 있으면 현재 스레드에서 새 트랜잭션으로 바로 적용한다. 같은 PR 의 다른 이벤트를 처리하기 전에 호출해 순서를 지킨다.
+     * <p>
+     * 적용에 실패하면 대기 목록에 되돌리고 예외를 그대로 던진다. 호출한 이벤트는 lane 안에서 다시 시도되며, 그때 되돌린 이벤트부터 다시 적용한다.
+     */
+    public void flush(Long githubPrId) {
+        PendingSync pending = pendingSyncs.remove(githubPrId);
+        if (pending == null) {
+            return;
+        }
+        apply(githubPrId, pending);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        // 종료 전에 대기 중인 이벤트를 모두 lane 에 넘겨, lane 종료 시 처리되게 한다.
+        List.copyOf(pendingSyncs.keySet())
+                .forEach(id -> {
+                    PendingSync pending = pendingSyncs.get(id);
+                    if (pending != null) {
+                        webhookPartitionedExecutor.execute(pending.partitionKey, () -> flushQuietly(id));
+                    }
+                });
+    }
+
+    private void requestFlush(Long githubPrId, long version) {
+        PendingSync pending = pendingSyncs.get(githubPrId);
+        if (pending == null || pending.version != version) {
+            // 이미 반영되었거나 더 최근 이벤트의 예약이 남아 있다.
+            return;
+        }
+        webhookPartitionedExecutor.execute(pending.partitionKey, () -> flushQuietly(githubPrId));
+    }
+
+    private void flushQuietly(Long githubPrId) {
+        try {
+            flush(githubPrId);
+        } catch (RuntimeException e) {
+            // apply 에서 재시도를 예약했거나 큐의 재처리로 넘겼다.
+            log.debug("병합된 PR 동기화 이벤트 예약 반영 실패: githubPrId={}", githubPrId);
+        }
+    }
+
+    private void apply(Long githubPrId, PendingSync pending) {
+        pending.attempts++;
+        try {
+            transactionTemplate.executeWithoutResult(status -> pending.handler.accept(pending.event));
+        } catch (RuntimeException e) {
+            restore(githubPrId, pending);
+            retryLater(githubPrId, e);
+            throw e;
+        }
+        pending.acks.forEach(WebhookDeliveryAck::complete);
+        log.debug("병합된 PR 동기화 이벤트 적용 완료: githubPrId={}, deliveries={}", githubPrId, pending.acks.size());
+    }
+
+    /**
+     * 적용에 실패한 이벤트를 대기 목록에 되돌린다. 그 사이 더 최근 이벤트가 들어왔으면 그 이벤트에 전달 건만 합친다.
+     */
+    private void restore(Long githubPrId, PendingSync failed) {
+        pendingSyncs.compute(githubPrId, (id, current) -> {
+            if (current == null) {
+                return failed;
+            }
+            current.acks.addAll(0, failed.acks);
+            current.attempts = Math.max(current.attempts, failed.attempts);
+            return current;
+        });
+    }
+
+    /**
+     * 되돌린 이벤트를 백오프 후 lane 에서 다시 적용하도록 예약한다. 최대 시도 횟수를 넘었거나 종료 중이면 전달 건을 실패 처리해 큐의 재처리 주기에 넘긴다.
+     */
+    private void retryLater(Long githubPrId, RuntimeException cause) {
+        PendingSync pending = pendingSyncs.get(githubPrId);
+        if (pending == null) {
+            return;
+        }
+        if (pending.attempts >= maxAttempts || scheduler.isShutdown()) {
+            PendingSync removed = pendingSyncs.remove(githubPrId);
+            if (removed != null) {
+                removed.acks.forEach(WebhookDeliveryAck::fail);
+            }
+            log.warn("병합된 PR 동기화 이벤트 적용 실패, 큐에서 재처리: githubPrId={}, attempts={}, message={}", githubPrId, pending.attempts,
+                    cause.getMessage());
+            return;
+        }
+        long version = pending.version;
+        long delayMillis = retryBaseDelay.multipliedBy(1L << Math.min(pending.attempts - 1, 10))
+                .toMillis();
+        scheduler.schedule(() -> requestFlush(githubPrId, version), delayMillis, TimeUnit.MILLISECONDS);
+        log.warn("병합된 PR 동기화 이벤트 적용 실패, 재시도 예정: githubPrId={}, attempts={}, message={}", githubPrId, pending.attempts,
+                cause.getMessage());
+    }
+
+    private static class PendingSync {
+
+        private final String partitionKey;
+        private final Instant firstReceivedAt;
+        private PullRequestEventDto event;
+        private Consumer<PullRequestEventDto> handler;
+        // 이 PR 에 병합된 전달 건들 (compute 안에서만 추가된다)
+        private final List<WebhookDeliveryAck> acks = new ArrayList<>();
+        private volatile long version;
+        // 반영을 시도한 횟수 (실패 후 되돌려도 유지된다)
+        private volatile int attempts;
+
+        PendingSync(String partitionKey, Instant firstReceivedAt) {
+            this.partitionKey = partitionKey;
+            this.firstReceivedAt = firstReceivedAt;
+        }
+    }
+}
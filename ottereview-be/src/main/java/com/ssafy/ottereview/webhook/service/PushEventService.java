@@ -17,10 +17,9 @@ public class PushEventService {
     private final ObjectMapper objectMapper;
     private final EventSendController eventSendController;
 
-    public void processPushEvent(String payload) {
+    public void processPushEvent(PushEventDto pushInfo) {
         log.debug("Push Event 프로세스 실행");
         try {
-            PushEventDto pushInfo = objectMapper.readValue(payload, PushEventDto.class);
             log.debug("Push Event 파싱 완료: {}", pushInfo);
 
             eventSendController.push(pushInfo.getSender().getId(), "push", pushInfo);
@@ -22,13 +22,13 @@ public class RepoEventService {
     private final ObjectMapper objectMapper;
     private final RepoRepository repoRepository;
 
-    public void processRepo(String payload){
+    public void processRepo(RepoEventDto event){
         log.debug("Repo public private 변경");
         try{
-            RepoEventDto event = objectMapper.readValue(payload, RepoEventDto.class);
-            String formattedPayload = objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(event);
-            log.debug("DTO로 받은 Repository event: {}", formattedPayload);
+            if (log.isDebugEnabled()) {
+                log.debug("DTO로 받은 Repository event: {}", objectMapper.writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(event));
+            }
             switch(event.getAction()){
                 case "publicized":
                     log.debug("Repo publicized handler start");
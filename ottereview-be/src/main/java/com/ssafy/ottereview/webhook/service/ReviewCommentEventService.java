@@ -2,12 +2,14 @@ package com.ssafy.ottereview.webhook.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.ottereview.common.exception.BusinessException;
+import com.ssafy.ottereview.githubapp.client.GithubReviewCommentCache;
+import com.ssafy.ottereview.githubapp.dto.GithubReviewCommentResponse;
 import com.ssafy.ottereview.review.entity.Review;
 import com.ssafy.ottereview.review.repository.ReviewRepository;
 import com.ssafy.ottereview.reviewcomment.entity.ReviewComment;
 import com.ssafy.ottereview.reviewcomment.repository.ReviewCommentRepository;
 import com.ssafy.ottereview.user.entity.User;
-import com.ssafy.ottereview.user.repository.UserRepository;
+import com.ssafy.ottereview.user.service.UserIdentityResolver;
 import com.ssafy.ottereview.webhook.dto.ReviewCommentEventDto;
 import com.ssafy.ottereview.webhook.dto.ReviewCommentEventDto.ReviewCommentInfo;
 import com.ssafy.ottereview.webhook.dto.UserWebhookInfo;
@@ -28,8 +30,8 @@ public class ReviewCommentEventService {
     private final ObjectMapper objectMapper;
     private final ReviewCommentRepository reviewCommentRepository;
     private final ReviewRepository reviewRepository;
-    private final UserRepository userRepository;
-    private final UserEventService userEventService;
+    private final UserIdentityResolver userIdentityResolver;
+    private final GithubReviewCommentCache githubReviewCommentCache;
     
     public static String extractContentAfterReviewer(String comment) {
         if (comment == null || comment.trim()
@@ -49,12 +51,14 @@ public class ReviewCommentEventService {
         return null;
     }
     
-    public void processReviewCommentEvent(String payload) {
+    public void processReviewCommentEvent(ReviewCommentEventDto event) {
         try {
-            ReviewCommentEventDto event = objectMapper.readValue(payload, ReviewCommentEventDto.class);
-            String formattedPayload = objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(event);
-            log.debug("DTO로 받은 ReviewCommentEventDto event: {}", formattedPayload);
+            if (log.isDebugEnabled()) {
+                log.debug("DTO로 받은 ReviewCommentEventDto event: {}", objectMapper.writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(event));
+            }
+            
+            cacheReviewComment(event);
             
             switch (event.getAction()) {
                 
@@ -80,6 +84,35 @@ public class ReviewCommentEventService {
         }
     }
     
+    /**
+     * 수정/삭제/답글 요청 시 댓글을 다시 조회하지 않도록 웹훅으로 받은 댓글 정보를 캐시에 반영한다.
+     */
+    private void cacheReviewComment(ReviewCommentEventDto event) {
+        ReviewCommentInfo comment = event.getComment();
+        if (comment == null) {
+            return;
+        }
+        
+        if ("deleted".equals(event.getAction())) {
+            githubReviewCommentCache.evict(comment.getId());
+            return;
+        }
+        
+        githubReviewCommentCache.put(GithubReviewCommentResponse.builder()
+                .id(comment.getId())
+                .pullRequestReviewId(comment.getPullRequestReviewId())
+                .inReplyToId(comment.getInReplyToId())
+                .path(comment.getPath())
+                .body(comment.getBody())
+                .startLine(comment.getStartLine())
+                .startSide(comment.getStartSide())
+                .line(comment.getLine())
+                .side(comment.getSide())
+                .position(comment.getPosition())
+                .diffHunk(comment.getDiffHunk())
+                .build());
+    }
+    
     private void handleReviewCommentDeleted(ReviewCommentEventDto event) {
         Long reviewCommentGithubId = event.getComment()
                 .getId();
@@ -129,8 +162,7 @@ public class ReviewCommentEventService {
                 .getUser();
         
         // 유저 조회 하고 없으면 생성
-        User author = userRepository.findByGithubId(user.getId())
-                .orElseGet(() -> userEventService.registerUser(user));
+        User author = userIdentityResolver.resolve(user.toGithubUser());
         
         ReviewComment newReviewComment = ReviewComment.builder()
                 .githubId(comment.getId())
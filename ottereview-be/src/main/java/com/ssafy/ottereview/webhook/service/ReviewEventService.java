@@ -11,7 +11,7 @@ import com.ssafy.ottereview.review.repository.ReviewRepository;
 import com.ssafy.ottereview.reviewer.entity.Reviewer;
 import com.ssafy.ottereview.reviewer.repository.ReviewerRepository;
 import com.ssafy.ottereview.user.entity.User;
-import com.ssafy.ottereview.user.repository.UserRepository;
+import com.ssafy.ottereview.user.service.UserIdentityResolver;
 import com.ssafy.ottereview.webhook.dto.ReviewEventDto;
 import com.ssafy.ottereview.webhook.exception.WebhookErrorCode;
 import java.util.List;
@@ -31,21 +31,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReviewEventService {
     
     private final PullRequestRepository pullRequestRepository;
-    private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
     private final ReviewRepository reviewRepository;
-    private final UserEventService userEventService;
+    private final UserIdentityResolver userIdentityResolver;
     private final ReviewerRepository reviewerRepository;
+    private final PullRequestSyncCoalescer pullRequestSyncCoalescer;
     private static final Pattern REVIEW_PATTERN = Pattern.compile(">\\s*(.+)");
 
-    public void processReviewEvent(String payload) {
+    public void processReviewEvent(ReviewEventDto event) {
         
         try {
+            // 리뷰 반영 전에 대기 중인 PR 동기화(리뷰어 상태 초기화)를 먼저 적용한다.
+            pullRequestSyncCoalescer.flush(event.getPullRequest()
+                    .getId());
             
-            ReviewEventDto event = objectMapper.readValue(payload, ReviewEventDto.class);
-            String formattedPayload = objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(event);
-            log.debug("DTO로 받은 ReviewEventDto event: {}", formattedPayload);
+            if (log.isDebugEnabled()) {
+                log.debug("DTO로 받은 ReviewEventDto event: {}", objectMapper.writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(event));
+            }
             
             switch (event.getAction()) {
                 case "edited":
@@ -122,11 +125,9 @@ public class ReviewEventService {
                                 .getId()));
         
         // 2. User 조회 또는 생성
-        User author = userRepository.findByGithubId(event.getReview()
-                        .getUser()
-                        .getId())
-                .orElseGet(() -> userEventService.registerUser(event.getReview()
-                        .getUser()));
+        User author = userIdentityResolver.resolve(event.getReview()
+                .getUser()
+                .toGithubUser());
         event.getReview().changeBody(extractReviewContent(event.getReview().getBody()));
 
         // 3. Review 생성
@@ -0,0 +1,176 @@
+package com.ssafy.ottereview.webhook.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ottereview.common.exception.BusinessException;
+import com.ssafy.ottereview.webhook.dto.BranchEventDto;
+import com.ssafy.ottereview.webhook.dto.BranchProtection;
+import com.ssafy.ottereview.webhook.dto.InstallationEventDto;
+import com.ssafy.ottereview.webhook.dto.PullRequestEventDto;
+import com.ssafy.ottereview.webhook.dto.PushEventDto;
+import com.ssafy.ottereview.webhook.dto.RepoEventDto;
+import com.ssafy.ottereview.webhook.dto.RepositoryEventDto;
+import com.ssafy.ottereview.webhook.dto.ReviewCommentEventDto;
+import com.ssafy.ottereview.webhook.dto.ReviewEventDto;
+import com.ssafy.ottereview.webhook.exception.WebhookErrorCode;
+import com.ssafy.ottereview.webhook.queue.WebhookPartitionedExecutor;
+import io.micrometer.core.instrument.Timer;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * X-GitHub-Event 값에 따라 웹훅 payload 를 각 이벤트 서비스로 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebhookEventDispatcher {
+
+    private static final Set<String> SUPPORTED_EVENTS = Set.of(
+            "push",
+            "pull_request",
+            "pull_request_review",
+            "pull_request_review_comment",
+            "installation",
+            "installation_repositories",
+            "create",
+            "delete",
+            "branch_protection_rule",
+            "repository"
+    );
+
+    // 같은 PR 에 대해서는 순서대로 적용해야 하는 이벤트
+    private static final Set<String> PULL_REQUEST_EVENTS = Set.of(
+            "pull_request",
+            "pull_request_review",
+            "pull_request_review_comment"
+    );
+
+    private final ObjectMapper objectMapper;
+    private final WebhookMetrics webhookMetrics;
+    private final PushEventService pushEventService;
+    private final InstallationEventService installationEventService;
+    private final PullRequestEventService pullRequestEventService;
+    private final ReviewEventService reviewEventService;
+    private final ReviewCommentEventService reviewCommentEventService;
+    private final BranchProtectionEventService branchProtectionEventService;
+    private final RepoEventService repoEventService;
+
+    public boolean supports(String event) {
+        return SUPPORTED_EVENTS.contains(event);
+    }
+
+    /**
+     * payload 를 한 번만 파싱한다. 이후 파티션 키 계산과 DTO 변환은 이 트리를 재사용한다.
+     */
+    public JsonNode parse(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(WebhookErrorCode.WEBHOOK_INVALID_PAYLOAD);
+        }
+    }
+
+    /**
+     * PR 관련 이벤트면 "저장소 id#PR 번호" 를, 그 외 이벤트나 값을 읽을 수 없으면 null 을 돌려준다.
+     */
+    public String partitionKey(String event, JsonNode root) {
+        if (!PULL_REQUEST_EVENTS.contains(event)) {
+            return null;
+        }
+        JsonNode repositoryId = root.path("repository")
+                .path("id");
+        JsonNode number = root.path("pull_request")
+                .path("number");
+        if (repositoryId.isMissingNode() || number.isMissingNode()) {
+            return null;
+        }
+        return WebhookPartitionedExecutor.pullRequestKey(repositoryId.asLong(), number.asInt());
+    }
+
+    public void dispatch(String event, String payload) {
+        dispatch(event, parse(payload));
+    }
+
+    public void dispatch(String event, JsonNode root) {
+        Timer.Sample sample = webhookMetrics.startProcessing();
+        String outcome = WebhookMetrics.OUTCOME_FAILURE;
+        try {
+            route(event, root);
+            outcome = WebhookMetrics.OUTCOME_SUCCESS;
+        } finally {
+            webhookMetrics.recordProcessing(sample, event, action(event, root), outcome);
+        }
+    }
+
+    /**
+     * 지표 태그용 action. create / delete 이벤트는 action 대신 ref_type 을 사용한다.
+     */
+    private String action(String event, JsonNode root) {
+        String field = "create".equals(event) || "delete".equals(event) ? "ref_type" : "action";
+        return root.path(field)
+                .asText("none");
+    }
+
+    private void route(String event, JsonNode root) {
+        switch (event) {
+            case "push":
+                pushEventService.processPushEvent(convert(root, PushEventDto.class));
+                break;
+
+            case "pull_request":
+                pullRequestEventService.processPullRequestEvent(convert(root, PullRequestEventDto.class));
+                break;
+
+            case "pull_request_review":
+                reviewEventService.processReviewEvent(convert(root, ReviewEventDto.class));
+                break;
+
+            case "pull_request_review_comment":
+                reviewCommentEventService.processReviewCommentEvent(convert(root, ReviewCommentEventDto.class));
+                break;
+
+            case "installation":
+                installationEventService.processInstallationEvent(convert(root, InstallationEventDto.class));
+                break;
+
+            case "installation_repositories":
+                installationEventService.processInstallationRepositoriesEvent(convert(root, RepositoryEventDto.class));
+                break;
+
+            case "create":
+                installationEventService.processAddBranchesEvent(convert(root, BranchEventDto.class));
+                break;
+
+            case "delete":
+                installationEventService.processDeleteBranchesEvent(convert(root, BranchEventDto.class));
+                break;
+
+            case "branch_protection_rule":
+                branchProtectionEventService.processBranchProtection(convert(root, BranchProtection.class));
+                break;
+
+            case "repository":
+                repoEventService.processRepo(convert(root, RepoEventDto.class));
+                break;
+
+            default:
+                throw new BusinessException(WebhookErrorCode.WEBHOOK_UNSUPPORTED_EVENT);
+        }
+    }
+
+    /**
+     * 이미 파싱된 트리를 DTO 로 바인딩한다. (원문을 다시 토큰화하지 않는다)
+     */
+    private <T> T convert(JsonNode root, Class<T> type) {
+        try {
+            return objectMapper.treeToValue(root, type);
+        } catch (JsonProcessingException e) {
+            log.warn("웹훅 payload 변환 실패: type={}, message={}", type.getSimpleName(), e.getOriginalMessage());
+            throw new BusinessException(WebhookErrorCode.WEBHOOK_INVALID_PAYLOAD);
+        }
+    }
+}
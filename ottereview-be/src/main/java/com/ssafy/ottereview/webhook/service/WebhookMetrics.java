@@ -0,0 +1,87 @@
+package com.ssafy.ottereview.webhook.service;
+
+import com.ssafy.ottereview.webhook.queue.WebhookDeliveryQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 웹훅 수신/처리 지표. 이벤트 종류와 action, 처리 결과별 처리 시간, payload 크기, 큐 적체량과 대기 시간을 기록한다.
+ */
+@Slf4j
+@Component
+public class WebhookMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer queueLag;
+
+    public WebhookMetrics(MeterRegistry meterRegistry, WebhookDeliveryQueue webhookDeliveryQueue) {
+        this.meterRegistry = meterRegistry;
+        this.queueLag = Timer.builder("webhook.queue.lag")
+                .description("웹훅 수신부터 워커가 처리를 시작하기까지의 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        Gauge.builder("webhook.queue.length", webhookDeliveryQueue, queue -> safe(queue::length))
+                .description("큐에 남아 있는 웹훅 전달 건 수 (처리 중 포함)")
+                .register(meterRegistry);
+        Gauge.builder("webhook.queue.pending", webhookDeliveryQueue, queue -> safe(queue::pendingCount))
+                .description("워커에 전달되었지만 아직 완료되지 않은 웹훅 전달 건 수")
+                .register(meterRegistry);
+    }
+
+    public Timer.Sample startProcessing() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordProcessing(Timer.Sample sample, String event, String action, String outcome) {
+        sample.stop(Timer.builder("webhook.processing")
+                .description("웹훅 이벤트 처리 시간")
+                .tag("event", event)
+                .tag("action", action)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    public void recordPayloadSize(String event, long sizeBytes) {
+        DistributionSummary.builder("webhook.payload.size")
+                .description("수신한 웹훅 payload 크기")
+                .baseUnit("bytes")
+                .tag("event", event)
+                .register(meterRegistry)
+                .record(sizeBytes);
+    }
+
+    public void recordQueueLag(long receivedAt) {
+        if (receivedAt > 0) {
+            queueLag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - receivedAt)));
+        }
+    }
+
+    public void recordDeadLetter(String event) {
+        Counter.builder("webhook.queue.dead_lettered")
+                .description("dead-letter 로 옮겨진 웹훅 전달 건 수")
+                .tag("event", event == null ? "unknown" : event)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private double safe(LongSupplier supplier) {
+        try {
+            return supplier.getAsLong();
+        } catch (RuntimeException e) {
+            log.debug("웹훅 큐 지표 조회 실패: {}", e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.ssafy.ottereview.webhook.service;
+
+import com.ssafy.ottereview.common.exception.BusinessException;
+import com.ssafy.ottereview.webhook.dto.WebhookJournalEntry;
+import com.ssafy.ottereview.webhook.dto.WebhookReplayReport;
+import com.ssafy.ottereview.webhook.dto.WebhookReplayReport.EventLatency;
+import com.ssafy.ottereview.webhook.dto.WebhookReplayRequest;
+import com.ssafy.ottereview.webhook.exception.WebhookErrorCode;
+import com.ssafy.ottereview.webhook.journal.WebhookJournal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 저널에 기록된 웹훅을 지정한 속도로 다시 처리하고, 이벤트별 처리 시간 분포를 돌려준다.
+ * <p>
+ * 큐와 중복 제거를 거치지 않고 워커와 같은 경로(WebhookEventDispatcher)를 현재 스레드에서 바로 호출하므로 핸들러 자체의 처리 시간이 측정된다. 실제 DB 에 반영되므로 검증/부하 테스트 환경에서만 켠다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebhookReplayService {
+
+    private static final int DEFAULT_LIMIT = 10_000;
+
+    private final WebhookJournal webhookJournal;
+    private final WebhookEventDispatcher webhookEventDispatcher;
+
+    @Value("${webhook.journal.replay-enabled:false}")
+    private boolean replayEnabled;
+
+    public WebhookReplayReport replay(WebhookReplayRequest request) {
+        if (!replayEnabled) {
+            throw new BusinessException(WebhookErrorCode.WEBHOOK_REPLAY_DISABLED);
+        }
+
+        Instant from = request.getFrom() == null ? Instant.EPOCH : request.getFrom();
+        Instant to = request.getTo() == null ? Instant.now() : request.getTo();
+        int limit = request.getLimit() == null ? DEFAULT_LIMIT : request.getLimit();
+        long intervalNanos = request.getRatePerSecond() > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / request.getRatePerSecond()) : 0L;
+
+        Map<String, LatencyRecorder> recorders = new TreeMap<>();
+        long startedAt = System.nanoTime();
+        long[] nextAt = {startedAt};
+        int[] replayed = {0};
+
+        try {
+            webhookJournal.read(from, to, entry -> {
+                if (replayed[0] >= limit || !matches(request, entry) || !webhookEventDispatcher.supports(entry.getEvent())) {
+                    return;
+                }
+                replayed[0]++;
+                pace(nextAt, intervalNanos);
+
+                LatencyRecorder recorder = recorders.computeIfAbsent(entry.getEvent(), event -> new LatencyRecorder());
+                long begin = System.nanoTime();
+                boolean success = true;
+                try {
+                    webhookEventDispatcher.dispatch(entry.getEvent(), entry.getPayload());
+                } catch (RuntimeException e) {
+                    success = false;
+                    log.debug("웹훅 재생 처리 실패: event={}, delivery={}, message={}", entry.getEvent(), entry.getDeliveryId(), e.getMessage());
+                }
+                recorder.record(System.nanoTime() - begin, success);
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.error("웹훅 저널 읽기 실패", e);
+            throw new BusinessException(WebhookErrorCode.WEBHOOK_JOURNAL_READ_FAILED);
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        List<EventLatency> events = new ArrayList<>();
+        recorders.forEach((event, recorder) -> events.add(recorder.summarize(event)));
+        int failures = events.stream()
+                .mapToInt(EventLatency::getFailures)
+                .sum();
+        log.info("웹훅 재생 완료: count={}, failures={}, elapsed={}ms", replayed[0], failures, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        return WebhookReplayReport.builder()
+                .totalCount(replayed[0])
+                .failureCount(failures)
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .throughputPerSecond(elapsedNanos == 0 ? 0 : replayed[0] * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos)
+                .events(events)
+                .build();
+    }
+
+    private boolean matches(WebhookReplayRequest request, WebhookJournalEntry entry) {
+        return request.getEvents() == null || request.getEvents()
+                .isEmpty() || request.getEvents()
+                .contains(entry.getEvent());
+    }
+
+    /**
+     * 목표 속도에 맞춰 다음 처리 시각까지 기다린다. 처리가 밀렸으면 기다리지 않고 이어서 처리한다.
+     */
+    private void pace(long[] nextAt, long intervalNanos) {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (nextAt[0] > now) {
+            LockSupport.parkNanos(nextAt[0] - now);
+        }
+        nextAt[0] = Math.max(nextAt[0], now) + intervalNanos;
+    }
+
+    private static class LatencyRecorder {
+
+        private long[] samples = new long[64];
+        private int count;
+        private int failures;
+
+        void record(long nanos, boolean success) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+            if (!success) {
+                failures++;
+            }
+        }
+
+        EventLatency summarize(String event) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return EventLatency.builder()
+                    .event(event)
+                    .count(count)
+                    .failures(failures)
+                    .p50Ms(percentile(sorted, 0.50))
+                    .p90Ms(percentile(sorted, 0.90))
+                    .p99Ms(percentile(sorted, 0.99))
+                    .maxMs(toMillis(sorted[sorted.length - 1]))
+                    .build();
+        }
+
+        // nearest-rank 방식
+        private double percentile(long[] sorted, double percentile) {
+            int rank = (int) Math.ceil(percentile * sorted.length);
+            return toMillis(sorted[Math.max(0, rank - 1)]);
+        }
+
+        private double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.ssafy.ottereview.webhook.queue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.ssafy.ottereview.webhook.dto.WebhookDelivery;
+import com.ssafy.ottereview.webhook.service.WebhookEventDispatcher;
+import com.ssafy.ottereview.webhook.service.WebhookMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class WebhookDeliveryWorkerTest {
+
+    private static final String PARTITION_KEY = "pr:1:1";
+    private static final RecordId RECORD_ID = RecordId.of("1-0");
+
+    private WebhookDeliveryQueue queue;
+    private WebhookEventDispatcher dispatcher;
+    private WebhookPartitionedExecutor partitionedExecutor;
+    private Executor workerExecutor;
+    private JsonNode root;
+    private WebhookDeliveryWorker worker;
+    private MapRecord<String, String, String> record;
+    private String consumerName;
+
+    @BeforeEach
+    void setUp() {
+        queue = mock(WebhookDeliveryQueue.class);
+        dispatcher = mock(WebhookEventDispatcher.class);
+        partitionedExecutor = mock(WebhookPartitionedExecutor.class);
+        workerExecutor = mock(Executor.class);
+        worker = new WebhookDeliveryWorker(queue, dispatcher, workerExecutor, partitionedExecutor, mock(WebhookMetrics.class));
+        ReflectionTestUtils.setField(worker, "workers", 4);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 5);
+        ReflectionTestUtils.setField(worker, "claimMinIdleMillis", Duration.ofMinutes(15)
+                .toMillis());
+        ReflectionTestUtils.setField(worker, "laneRetryBaseMillis", 0L);
+        ReflectionTestUtils.setField(worker, "permits", new Semaphore(4));
+        ReflectionTestUtils.setField(worker, "running", true);
+        consumerName = "worker-test";
+        ReflectionTestUtils.setField(worker, "consumerName", consumerName);
+
+        record = StreamRecords.newRecord()
+                .in("webhook:deliveries")
+                .withId(RECORD_ID)
+                .ofMap(Map.of("event", "pull_request"));
+        root = JsonNodeFactory.instance.objectNode();
+        when(queue.toDelivery(record)).thenReturn(WebhookDelivery.builder()
+                .deliveryId("delivery-1")
+                .event("pull_request")
+                .payload("{}")
+                .receivedAt(System.currentTimeMillis())
+                .build());
+        when(dispatcher.supports("pull_request")).thenReturn(true);
+        when(dispatcher.parse("{}")).thenReturn(root);
+        when(dispatcher.partitionKey("pull_request", root)).thenReturn(PARTITION_KEY);
+    }
+
+    @Test
+    void inFlightEntryIsNotReclaimed() {
+        // PR lane 이 밀려 아직 실행되지 않은 상태
+        ReflectionTestUtils.invokeMethod(worker, "submit", record);
+        when(queue.pending(anyInt())).thenReturn(List.of(ownPending(Duration.ofMinutes(30), 1)));
+
+        worker.reclaimPending();
+
+        verify(queue, never()).claim(anyString(), any(), any());
+        verify(queue, never()).deadLetter(any(), anyString());
+    }
+
+    @Test
+    void ownFailedEntryIsRetriedAfterBackOff() {
+        // PR 외 이벤트는 워커 풀에서 처리되고 실패하면 큐에서 다시 가져온다.
+        when(dispatcher.partitionKey("pull_request", root)).thenReturn(null);
+        ReflectionTestUtils.invokeMethod(worker, "submit", record);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(workerExecutor).execute(task.capture());
+        // 핸들러가 실패해 ACK 되지 않고 끝났다.
+        doThrow(new IllegalStateException("db down"))
+                .when(dispatcher)
+                .dispatch(anyString(), any(JsonNode.class));
+        task.getValue()
+                .run();
+
+        when(queue.pending(anyInt())).thenReturn(List.of(ownPending(Duration.ofSeconds(6), 1)));
+        when(queue.claim(eq(consumerName), any(), eq(RECORD_ID))).thenReturn(List.of(record));
+
+        worker.reclaimPending();
+
+        verify(queue).claim(consumerName, Duration.ofSeconds(5), RECORD_ID);
+    }
+
+    @Test
+    void failedPartitionedEntryIsRetriedInsideLane() {
+        ReflectionTestUtils.invokeMethod(worker, "submit", record);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(partitionedExecutor).execute(eq(PARTITION_KEY), task.capture());
+        // 첫 시도만 실패한다.
+        doThrow(new IllegalStateException("db down"))
+                .doNothing()
+                .when(dispatcher)
+                .dispatch(anyString(), any(JsonNode.class));
+        task.getValue()
+                .run();
+
+        verify(dispatcher, times(2)).dispatch(anyString(), any(JsonNode.class));
+        verify(queue).complete(RECORD_ID);
+        verify(queue, never()).deadLetter(any(), anyString());
+    }
+
+    @Test
+    void partitionedEntryIsDeadLetteredAfterMaxAttemptsInsideLane() {
+        ReflectionTestUtils.invokeMethod(worker, "submit", record);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(partitionedExecutor).execute(eq(PARTITION_KEY), task.capture());
+        doThrow(new IllegalStateException("db down"))
+                .when(dispatcher)
+                .dispatch(anyString(), any(JsonNode.class));
+        task.getValue()
+                .run();
+
+        verify(dispatcher, times(5)).dispatch(anyString(), any(JsonNode.class));
+        verify(queue).deadLetter(record, "max attempts exceeded");
+        verify(queue, never()).complete(any());
+    }
+
+    @Test
+    void deferredEntryIsAckedOnlyAfterHandlerCompletes() {
+        ReflectionTestUtils.invokeMethod(worker, "submit", record);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(partitionedExecutor).execute(eq(PARTITION_KEY), task.capture());
+        // 핸들러가 병합 대기로 ACK 를 가져갔다.
+        AtomicReference<WebhookDeliveryAck> deferred = new AtomicReference<>();
+        doAnswer(invocation -> {
+            deferred.set(WebhookDeliveryAck.deferCurrent());
+            return null;
+        }).when(dispatcher)
+                .dispatch(anyString(), any(JsonNode.class));
+        task.getValue()
+                .run();
+
+        verify(queue, never()).complete(any());
+        when(queue.pending(anyInt())).thenReturn(List.of(ownPending(Duration.ofMinutes(30), 1)));
+        worker.reclaimPending();
+        verify(queue, never()).claim(anyString(), any(), any());
+
+        deferred.get()
+                .complete();
+        verify(queue).complete(RECORD_ID);
+    }
+
+    @Test
+    void otherConsumerEntryIsClaimedOnlyAfterStallThreshold() {
+        when(queue.pending(anyInt())).thenReturn(List.of(pending("worker-other", Duration.ofMinutes(1), 1)));
+
+        worker.reclaimPending();
+
+        verify(queue, never()).claim(anyString(), any(), any());
+    }
+
+    private PendingMessage ownPending(Duration idle, long deliveryCount) {
+        return pending(consumerName, idle, deliveryCount);
+    }
+
+    private PendingMessage pending(String consumer, Duration idle, long deliveryCount) {
+        return new PendingMessage(RECORD_ID, Consumer.from("webhook-workers", consumer), idle, deliveryCount);
+    }
+}